@@ -0,0 +1,72 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A pool of byte buffers supplied by the implementation to each
+ * {@link FrameTransform}. Transforms that need a buffer to hold a transformed
+ * payload obtain it here rather than allocating one for each frame. A
+ * BufferPool may be accessed by concurrent threads.
+ *
+ * @since 1.2
+ */
+public interface BufferPool {
+
+    /**
+     * Obtain a buffer with at least the given capacity. The returned buffer is
+     * cleared, its position being 0 and its limit being its capacity.
+     *
+     * @param capacity the minimum capacity in bytes.
+     * @return a buffer from the pool, or a new one if the pool is empty.
+     */
+    ByteBuffer acquire(int capacity);
+
+    /**
+     * Return a buffer to the pool. The buffer must be one returned by
+     * {@link #acquire(int)} on this pool, not a slice or duplicate of it, and
+     * must not be used by the caller afterwards. Buffers carried by a
+     * {@link Frame#isPooled() pooled} frame are released by the implementation.
+     *
+     * @param buffer the buffer being returned.
+     */
+    void release(ByteBuffer buffer);
+}
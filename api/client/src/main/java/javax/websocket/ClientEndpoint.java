@@ -102,4 +102,14 @@ public @interface ClientEndpoint {
      * if none was provided in the annotation.
      */
     public Class<? extends ClientEndpointConfig.Configurator> configurator() default ClientEndpointConfig.Configurator.class;
+
+    /**
+     * The threads the container runs the callbacks of this endpoint on. See
+     * {@link DispatchMode}.
+     *
+     * @return the dispatch mode, {@link DispatchMode#CONTAINER_DEFAULT} if none
+     * was set in the annotation.
+     * @since 1.2
+     */
+    public DispatchMode dispatchMode() default DispatchMode.CONTAINER_DEFAULT;
 }
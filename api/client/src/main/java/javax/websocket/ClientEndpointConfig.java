@@ -89,6 +89,47 @@ public interface ClientEndpointConfig extends EndpointConfig {
      */
     public ClientEndpointConfig.Configurator getConfigurator();
 
+    /**
+     * Return the policy the container follows to reconnect client endpoints
+     * using this configuration whose session was lost.
+     *
+     * @return the reconnect policy, {@link ReconnectPolicy#NONE} if none was set.
+     * @since 1.2
+     */
+    ReconnectPolicy getReconnectPolicy();
+
+    /**
+     * Return whether client endpoints using this configuration may open their
+     * sessions over HTTP/2, as described in
+     * <a href="https://tools.ietf.org/html/rfc8441">Bootstrapping WebSockets with HTTP/2</a>.
+     * If so, the container opens the session as a stream of an HTTP/2
+     * connection to the origin of the server URI, using the extended CONNECT
+     * method, and sessions to the same origin share that connection. If the
+     * server does not support HTTP/2, or does not enable the extended CONNECT
+     * method on it, the container falls back to the HTTP/1.1 opening handshake
+     * on a connection of its own.
+     *
+     * <p>The choice is transparent to the endpoint: its Session and
+     * RemoteEndpoint behave the same way, the flow control of the stream
+     * applying backpressure to sends as the TCP connection otherwise would,
+     * except that the flow control window of the connection is shared by the
+     * sessions sharing it, so they may hold up each other's sends.
+     * Closing the session closes the stream, not the shared connection.
+     *
+     * @return whether sessions may be opened over HTTP/2, {@code false} if it was not set.
+     * @since 1.2
+     */
+    boolean isHttp2Enabled();
+
+    /**
+     * Return the dispatch mode of client endpoints using this configuration,
+     * see {@link DispatchMode}.
+     *
+     * @return the dispatch mode, {@link DispatchMode#CONTAINER_DEFAULT} if none was set.
+     * @since 1.2
+     */
+    DispatchMode getDispatchMode();
+
     /**
      * The Configurator class may be extended by developers who want to
      * provide custom configuration algorithms, such as intercepting the opening handshake, or
@@ -121,6 +162,41 @@ public interface ClientEndpointConfig extends EndpointConfig {
         public void afterResponse(HandshakeResponse hr) {
 
         }
+
+        /**
+         * This method is called by the implementation before each attempt to
+         * reconnect a client endpoint whose session was lost, when the
+         * configuration has a {@link ReconnectPolicy}. The developer may
+         * implement this method in order to give up reconnecting, for example
+         * when the close reason shows the server will not accept the client
+         * again.
+         *
+         * <p>The platform default implementation of this method returns {@code true}.
+         *
+         * @param closeReason the reason the session was lost.
+         * @param attempt the attempt about to be made, starting at 1.
+         * @return whether the attempt should be made.
+         * @since 1.2
+         */
+        public boolean beforeReconnect(CloseReason closeReason, int attempt) {
+            return true;
+        }
+
+        /**
+         * This method is called by the implementation once a client endpoint
+         * whose session was lost has been reconnected, after the endpoint has
+         * been notified of the new session. The developer may implement this
+         * method in order to restore the state the server held for the lost
+         * session, such as subscriptions, and to record the outage.
+         *
+         * @param session the new session.
+         * @param outageMillis the number of milliseconds between the loss of the
+         * previous session and the opening of the new one.
+         * @since 1.2
+         */
+        public void afterReconnect(Session session, long outageMillis) {
+
+        }
     }
 
     /**
@@ -152,6 +228,9 @@ public interface ClientEndpointConfig extends EndpointConfig {
        private ClientEndpointConfig.Configurator clientEndpointConfigurator = new ClientEndpointConfig.Configurator() {
 
        };
+       private ReconnectPolicy reconnectPolicy = ReconnectPolicy.NONE;
+       private boolean http2Enabled;
+       private DispatchMode dispatchMode = DispatchMode.CONTAINER_DEFAULT;
        
        // use create()
        private Builder() {   
@@ -179,7 +258,10 @@ public interface ClientEndpointConfig extends EndpointConfig {
                Collections.unmodifiableList(this.extensions),
                Collections.unmodifiableList(this.encoders),
                Collections.unmodifiableList(this.decoders),
-               this.clientEndpointConfigurator);
+               this.clientEndpointConfigurator,
+               this.reconnectPolicy,
+               this.http2Enabled,
+               this.dispatchMode);
        }
 
 
@@ -245,6 +327,45 @@ public interface ClientEndpointConfig extends EndpointConfig {
            return this;
        }
 
+       /**
+        * Sets the policy the container follows to reconnect the client
+        * endpoint when its session is lost.
+        *
+        * @param reconnectPolicy the reconnect policy, {@code null} for {@link ReconnectPolicy#NONE}.
+        * @return this builder instance
+        * @since 1.2
+        */
+       public ClientEndpointConfig.Builder reconnectPolicy(ReconnectPolicy reconnectPolicy) {
+           this.reconnectPolicy = (reconnectPolicy == null) ? ReconnectPolicy.NONE : reconnectPolicy;
+           return this;
+       }
+
+       /**
+        * Sets whether the client endpoint may open its sessions as streams of a
+        * shared HTTP/2 connection.
+        *
+        * @param http2Enabled whether sessions may be opened over HTTP/2.
+        * @return this builder instance
+        * @since 1.2
+        */
+       public ClientEndpointConfig.Builder http2(boolean http2Enabled) {
+           this.http2Enabled = http2Enabled;
+           return this;
+       }
+
+       /**
+        * Sets the threads the container runs the callbacks of the client
+        * endpoint on.
+        *
+        * @param dispatchMode the dispatch mode, {@code null} for {@link DispatchMode#CONTAINER_DEFAULT}.
+        * @return this builder instance
+        * @since 1.2
+        */
+       public ClientEndpointConfig.Builder dispatchMode(DispatchMode dispatchMode) {
+           this.dispatchMode = (dispatchMode == null) ? DispatchMode.CONTAINER_DEFAULT : dispatchMode;
+           return this;
+       }
+
 
    }
 
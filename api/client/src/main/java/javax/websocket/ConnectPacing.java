@@ -0,0 +1,155 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+/**
+ * The ConnectPacing describes how fast a bulk connect, such as
+ * {@link WebSocketContainer#connectToServerBulk(Class, ClientEndpointConfig, java.net.URI, int, ConnectPacing, ConnectHandler)},
+ * starts its connection attempts. Attempts are started at most at
+ * {@link #getRate()} per second, and no more than
+ * {@link #getMaxConcurrent()} attempts are in progress at the same time.
+ *
+ * <p>For example:
+ * <pre><code>
+ * ConnectPacing pacing = ConnectPacing.Builder.create()
+ *         .rate(500)
+ *         .maxConcurrent(100)
+ *         .build();
+ * </code></pre>
+ *
+ * @since 1.2
+ */
+public final class ConnectPacing {
+
+    /**
+     * The pacing starting every attempt at once, used when none was given.
+     */
+    public static final ConnectPacing UNPACED = Builder.create().build();
+
+    private final int rate;
+    private final int maxConcurrent;
+
+    private ConnectPacing(Builder builder) {
+        this.rate = builder.rate;
+        this.maxConcurrent = builder.maxConcurrent;
+    }
+
+    /**
+     * Return the number of connection attempts started per second.
+     *
+     * @return the rate, or 0 if unlimited.
+     */
+    public int getRate() {
+        return this.rate;
+    }
+
+    /**
+     * Return the maximum number of connection attempts in progress at the same
+     * time. An attempt is in progress until its handshake has completed or
+     * failed.
+     *
+     * @return the maximum, or 0 if unlimited.
+     */
+    public int getMaxConcurrent() {
+        return this.maxConcurrent;
+    }
+
+    /**
+     * The ConnectPacing.Builder is a class used for creating
+     * {@link ConnectPacing} objects.
+     */
+    public static final class Builder {
+        private int rate;
+        private int maxConcurrent;
+
+        // use create()
+        private Builder() {
+        }
+
+        /**
+         * Creates a new builder with neither a rate nor a concurrency limit.
+         *
+         * @return a new builder object.
+         */
+        public static ConnectPacing.Builder create() {
+            return new ConnectPacing.Builder();
+        }
+
+        /**
+         * Builds the pacing using the attributes set on this builder.
+         *
+         * @return a new pacing object.
+         */
+        public ConnectPacing build() {
+            return new ConnectPacing(this);
+        }
+
+        /**
+         * Sets the number of connection attempts started per second.
+         *
+         * @param rate the rate, or 0 for no limit.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public ConnectPacing.Builder rate(int rate) {
+            if (rate < 0) {
+                throw new IllegalArgumentException("rate cannot be negative");
+            }
+            this.rate = rate;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of connection attempts in progress at the
+         * same time.
+         *
+         * @param maxConcurrent the maximum, or 0 for no limit.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public ConnectPacing.Builder maxConcurrent(int maxConcurrent) {
+            if (maxConcurrent < 0) {
+                throw new IllegalArgumentException("maxConcurrent cannot be negative");
+            }
+            this.maxConcurrent = maxConcurrent;
+            return this;
+        }
+    }
+}
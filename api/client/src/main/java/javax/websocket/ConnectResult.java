@@ -0,0 +1,130 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of an asynchronous connection attempt, or of one connection
+ * attempt made by a bulk connect. A ConnectResult is either ok, in which case
+ * it carries the Session that was opened, or is not OK, in which case it
+ * carries an exception to indicate what the problem was.
+ * In both cases it carries the time the attempt took, from the start of the
+ * connection until the handshake response was received or the attempt failed.
+ *
+ * @since 1.2
+ */
+public final class ConnectResult {
+
+    private final Session session;
+    private final Throwable exception;
+    private final long latencyNanos;
+
+    /**
+     * Construct a ConnectResult signifying a successful connection.
+     *
+     * @param session the session that was opened.
+     * @param latencyNanos the time the handshake took, in nanoseconds.
+     * @throws IllegalArgumentException if the session is {@code null}.
+     */
+    public ConnectResult(Session session, long latencyNanos) {
+        if (session == null) {
+            throw new IllegalArgumentException("session cannot be null");
+        }
+        this.session = session;
+        this.exception = null;
+        this.latencyNanos = latencyNanos;
+    }
+
+    /**
+     * Construct a ConnectResult carrying an exception.
+     *
+     * @param exception the exception causing the connection failure.
+     * @param latencyNanos the time until the attempt failed, in nanoseconds.
+     * @throws IllegalArgumentException if the exception is {@code null}.
+     */
+    public ConnectResult(Throwable exception, long latencyNanos) {
+        if (exception == null) {
+            throw new IllegalArgumentException("exception cannot be null");
+        }
+        this.session = null;
+        this.exception = exception;
+        this.latencyNanos = latencyNanos;
+    }
+
+    /**
+     * The session that was opened.
+     *
+     * @return the session or {@code null} if the connection failed.
+     */
+    public Session getSession() {
+        return this.session;
+    }
+
+    /**
+     * The problem connecting to the server, typically a DeploymentException or
+     * an IOException.
+     *
+     * @return the problem or {@code null} if the connection was successful.
+     */
+    public Throwable getException() {
+        return this.exception;
+    }
+
+    /**
+     * Determines if this result is ok or not.
+     *
+     * @return whether the connection was successful or not.
+     */
+    public boolean isOK() {
+        return this.session != null;
+    }
+
+    /**
+     * The time the attempt took, from the start of the connection until the
+     * handshake response was received or the attempt failed.
+     *
+     * @param unit the unit to return the time in.
+     * @return the time in the given unit.
+     */
+    public long getHandshakeLatency(TimeUnit unit) {
+        return unit.convert(this.latencyNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The ContainerConfig describes the threads a WebSocketContainer runs on. It
+ * is passed to {@link ContainerProvider#getWebSocketContainer(ContainerConfig)}
+ * when the container is created, and cannot be changed afterwards. The
+ * ServerContainer of a web application builds its configuration from
+ * ServletContext init parameters, see {@link javax.websocket.server.ServerContainer}.
+ *
+ * <p>A container uses two kinds of threads. Its I/O threads read and write
+ * the network connections of its sessions, each session being served by a
+ * single I/O thread for its lifetime. The message handlers and the other
+ * endpoint callbacks of a session run on the handler executor, so that
+ * application code never blocks an I/O thread, unless no executor is
+ * configured, in which case the container chooses where they run. The
+ * {@link DispatchMode} may select other threads for them.
+ *
+ * <p>For example, on a host with 64 cores:
+ * <pre><code>
+ * WebSocketContainer container = ContainerProvider.getWebSocketContainer(
+ *         ContainerConfig.Builder.create()
+ *                 .ioThreads(16)
+ *                 .ioThreadAffinity(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15)
+ *                 .handlerExecutor(Executors.newFixedThreadPool(48))
+ *                 .build());
+ * </code></pre>
+ *
+ * @since 1.2
+ */
+public final class ContainerConfig {
+
+    /**
+     * The configuration leaving every choice to the container, used when none
+     * was given.
+     */
+    public static final ContainerConfig DEFAULT = Builder.create().build();
+
+    private final int ioThreads;
+    private final int[] ioThreadAffinity;
+    private final Executor handlerExecutor;
+    private final boolean shareWithServerContainer;
+    private final DispatchMode dispatchMode;
+
+    private ContainerConfig(Builder builder) {
+        this.ioThreads = builder.ioThreads;
+        this.ioThreadAffinity = builder.ioThreadAffinity.clone();
+        this.handlerExecutor = builder.handlerExecutor;
+        this.shareWithServerContainer = builder.shareWithServerContainer;
+        this.dispatchMode = builder.dispatchMode;
+    }
+
+    /**
+     * Return the number of I/O threads of the container.
+     *
+     * @return the number of I/O threads, or 0 to let the container choose.
+     */
+    public int getIoThreads() {
+        return this.ioThreads;
+    }
+
+    /**
+     * Return the CPUs the I/O threads of the container should be bound to, the
+     * n-th I/O thread to the CPU at index n modulo the length of the array.
+     * This is a hint: containers unable to set the affinity of their threads
+     * on the current platform ignore it.
+     *
+     * @return a copy of the CPU numbers, the empty array if none were given.
+     */
+    public int[] getIoThreadAffinity() {
+        return this.ioThreadAffinity.clone();
+    }
+
+    /**
+     * Return the executor the container runs message handlers and the other
+     * endpoint callbacks on. The container never shuts it down.
+     *
+     * @return the executor, or {@code null} to let the container choose.
+     */
+    public Executor getHandlerExecutor() {
+        return this.handlerExecutor;
+    }
+
+    /**
+     * Return whether the container runs on the I/O threads and the handler
+     * executor of the server container of the same application, when there
+     * is one, rather than on threads of its own. The other attributes of this
+     * configuration are then ignored.
+     *
+     * @return whether the threads of the server container are shared.
+     */
+    public boolean isShareWithServerContainer() {
+        return this.shareWithServerContainer;
+    }
+
+    /**
+     * Return the threads the container runs the callbacks of its sessions on,
+     * unless their endpoint sets a mode of its own. See {@link DispatchMode}.
+     *
+     * @return the dispatch mode, {@link DispatchMode#CONTAINER_DEFAULT} if none was set.
+     */
+    public DispatchMode getDispatchMode() {
+        return this.dispatchMode;
+    }
+
+    /**
+     * The ContainerConfig.Builder is a class used for creating
+     * {@link ContainerConfig} objects.
+     */
+    public static final class Builder {
+        private int ioThreads;
+        private int[] ioThreadAffinity = new int[0];
+        private Executor handlerExecutor;
+        private boolean shareWithServerContainer;
+        private DispatchMode dispatchMode = DispatchMode.CONTAINER_DEFAULT;
+
+        // use create()
+        private Builder() {
+        }
+
+        /**
+         * Creates a new builder leaving every choice to the container.
+         *
+         * @return a new builder object.
+         */
+        public static ContainerConfig.Builder create() {
+            return new ContainerConfig.Builder();
+        }
+
+        /**
+         * Builds the configuration using the attributes set on this builder.
+         *
+         * @return a new configuration object.
+         */
+        public ContainerConfig build() {
+            return new ContainerConfig(this);
+        }
+
+        /**
+         * Sets the number of I/O threads of the container.
+         *
+         * @param ioThreads the number of I/O threads, or 0 to let the container choose.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public ContainerConfig.Builder ioThreads(int ioThreads) {
+            if (ioThreads < 0) {
+                throw new IllegalArgumentException("ioThreads cannot be negative");
+            }
+            this.ioThreads = ioThreads;
+            return this;
+        }
+
+        /**
+         * Sets the CPUs the I/O threads of the container should be bound to.
+         *
+         * @param cpus the CPU numbers, none to leave the affinity to the operating system.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the array is {@code null} or a CPU number is negative.
+         */
+        public ContainerConfig.Builder ioThreadAffinity(int... cpus) {
+            if (cpus == null) {
+                throw new IllegalArgumentException("cpus cannot be null");
+            }
+            for (int cpu : cpus) {
+                if (cpu < 0) {
+                    throw new IllegalArgumentException("CPU number cannot be negative: " + cpu);
+                }
+            }
+            this.ioThreadAffinity = cpus.clone();
+            return this;
+        }
+
+        /**
+         * Sets the executor the container runs message handlers and the other
+         * endpoint callbacks on.
+         *
+         * @param handlerExecutor the executor, or {@code null} to let the container choose.
+         * @return this builder instance.
+         */
+        public ContainerConfig.Builder handlerExecutor(Executor handlerExecutor) {
+            this.handlerExecutor = handlerExecutor;
+            return this;
+        }
+
+        /**
+         * Sets whether the container runs on the threads of the server
+         * container of the same application.
+         *
+         * @param shareWithServerContainer whether the threads of the server container are shared.
+         * @return this builder instance.
+         */
+        public ContainerConfig.Builder shareWithServerContainer(boolean shareWithServerContainer) {
+            this.shareWithServerContainer = shareWithServerContainer;
+            return this;
+        }
+
+        /**
+         * Sets the threads the container runs the callbacks of its sessions on.
+         *
+         * @param dispatchMode the dispatch mode, {@code null} for {@link DispatchMode#CONTAINER_DEFAULT}.
+         * @return this builder instance.
+         */
+        public ContainerConfig.Builder dispatchMode(DispatchMode dispatchMode) {
+            this.dispatchMode = (dispatchMode == null) ? DispatchMode.CONTAINER_DEFAULT : dispatchMode;
+            return this;
+        }
+    }
+}
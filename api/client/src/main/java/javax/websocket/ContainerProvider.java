@@ -76,11 +76,55 @@ public abstract class ContainerProvider {
         }
     }
  
+    /**
+     * Obtain a new instance of a WebSocketContainer running on the threads
+     * described by the given configuration. The method looks for the
+     * ContainerProvider implementation class in the same way as
+     * {@link #getWebSocketContainer()}, skipping those that do not support
+     * configurations.
+     *
+     * @param config the configuration of the container.
+     * @return an implementation provided instance of type WebSocketContainer
+     * @throws IllegalArgumentException if the configuration is {@code null}.
+     * @since 1.2
+     */
+    public static WebSocketContainer getWebSocketContainer(ContainerConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config cannot be null");
+        }
+        boolean found = false;
+        for (ContainerProvider impl : ServiceLoader.load(ContainerProvider.class)) {
+            found = true;
+            WebSocketContainer wsc = impl.getContainer(config);
+            if (wsc != null) {
+                return wsc;
+            }
+        }
+        if (!found) {
+            throw new RuntimeException("Could not find an implementation class.");
+        } else {
+            throw new RuntimeException("Could not find an implementation class supporting a ContainerConfig.");
+        }
+    }
+
     /**
      * Load the container implementation.
      * @return the implementation class
      */
     protected abstract WebSocketContainer getContainer();
+
+    /**
+     * Load the container implementation, configured with the given
+     * configuration. Implementations supporting configurations override this
+     * method; the default implementation returns {@code null}.
+     *
+     * @param config the configuration of the container.
+     * @return the implementation class, or {@code null} if configurations are not supported.
+     * @since 1.2
+     */
+    protected WebSocketContainer getContainer(ContainerConfig config) {
+        return null;
+    }
 }
 
 
@@ -56,6 +56,9 @@ import java.util.Map;
     private List<Class<? extends Decoder>> decoders;
     private Map<String, Object> userProperties = new HashMap<String, Object>();
     private ClientEndpointConfig.Configurator clientEndpointConfigurator;
+    private ReconnectPolicy reconnectPolicy;
+    private boolean http2Enabled;
+    private DispatchMode dispatchMode;
 
     
     DefaultClientEndpointConfig(
@@ -63,12 +66,18 @@ import java.util.Map;
             List<Extension> extensions,
             List<Class<? extends Encoder>> encoders,
             List<Class<? extends Decoder>> decoders,
-            ClientEndpointConfig.Configurator clientEndpointConfigurator) {
+            ClientEndpointConfig.Configurator clientEndpointConfigurator,
+            ReconnectPolicy reconnectPolicy,
+            boolean http2Enabled,
+            DispatchMode dispatchMode) {
         this.preferredSubprotocols = Collections.unmodifiableList(preferredSubprotocols);
         this.extensions = Collections.unmodifiableList(extensions);
         this.encoders = Collections.unmodifiableList(encoders);
         this.decoders = Collections.unmodifiableList(decoders);
         this.clientEndpointConfigurator = clientEndpointConfigurator;
+        this.reconnectPolicy = reconnectPolicy;
+        this.http2Enabled = http2Enabled;
+        this.dispatchMode = dispatchMode;
     }
 
     /**
@@ -132,6 +141,21 @@ import java.util.Map;
     public ClientEndpointConfig.Configurator getConfigurator() {
         return this.clientEndpointConfigurator;
     }
+
+     @Override
+    public ReconnectPolicy getReconnectPolicy() {
+        return this.reconnectPolicy;
+    }
+
+     @Override
+    public boolean isHttp2Enabled() {
+        return this.http2Enabled;
+    }
+
+     @Override
+    public DispatchMode getDispatchMode() {
+        return this.dispatchMode;
+    }
  
 
 }
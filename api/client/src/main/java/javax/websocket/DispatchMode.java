@@ -0,0 +1,148 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+/**
+ * The DispatchMode describes the threads a container runs the message
+ * handlers and the other endpoint callbacks of a session on. The mode of a
+ * container is set with {@link ContainerConfig.Builder#dispatchMode(DispatchMode)},
+ * and may be overridden for an endpoint with the dispatchMode element of its
+ * {@link ClientEndpoint} or {@code javax.websocket.server.ServerEndpoint}
+ * annotation, or with the dispatchMode method of the builder of its
+ * configuration, for example:
+ * <pre><code>
+ * ClientEndpointConfig cec = ClientEndpointConfig.Builder.create()
+ *         .dispatchMode(DispatchMode.ORDERED_POOL)
+ *         .build();
+ * </code></pre>
+ * An endpoint whose configuration sets {@link #CONTAINER_DEFAULT} follows the
+ * mode of the container. Setting the user property {@link #USER_PROPERTY_KEY}
+ * of the {@link EndpointConfig} of an endpoint to a DispatchMode or to its
+ * name, for example from a configurator, takes precedence over the mode of
+ * the configuration.
+ *
+ * <p>In every mode, the callbacks of a session are called one at a time, in
+ * the order of the events they notify, as in the rest of this specification.
+ * A mode the container or the Java runtime does not support falls back to
+ * {@link #CONTAINER_DEFAULT}.
+ *
+ * @since 1.2
+ */
+public enum DispatchMode {
+
+    /**
+     * The callbacks run on the handler executor of the container, see
+     * {@link ContainerConfig#getHandlerExecutor()}, or wherever the container
+     * chooses if there is none. Set on an endpoint, the endpoint follows the
+     * mode of its container.
+     */
+    CONTAINER_DEFAULT,
+
+    /**
+     * Each session has a virtual thread of its own, started when it opens and
+     * ending when it closes, on which its callbacks run, so they may block
+     * without holding up a platform thread. Blocking sends of
+     * {@link RemoteEndpoint.Basic} made on that thread park it rather than
+     * blocking an I/O thread, so an endpoint may serve a very large number of
+     * sessions with straightforward blocking code. Endpoints should avoid
+     * holding monitors while blocking, as that pins the virtual thread to its
+     * carrier thread. This mode requires a Java runtime providing virtual threads.
+     */
+    VIRTUAL_THREAD,
+
+    /**
+     * The callbacks run on a fixed pool of worker threads owned by the
+     * container, with one worker per I/O thread. Each session has a serial
+     * executor, a lock-free queue of its pending callbacks, and each worker
+     * has a run queue of the sessions it has pending callbacks for. An I/O
+     * thread appends events to the queue of the session without waiting, and
+     * schedules the session, by appending it to the run queue of its worker,
+     * only when its queue was empty and it was not already scheduled.
+     *
+     * <p>A worker takes the session at the head of its run queue, runs its
+     * oldest callback, or a batch of at most a few of its callbacks in order,
+     * and then appends the session to the tail of its run queue again if
+     * callbacks remain, or leaves it unscheduled otherwise. So no lock is held
+     * while a callback runs, a session has at most one worker running its
+     * callbacks at a time, and a busy session holds up the other sessions of
+     * its worker for one batch at most, not until its queue is drained.
+     *
+     * <p>A session sticks to the worker paired with its I/O thread, which is
+     * bound to the same CPU when {@link ContainerConfig#getIoThreadAffinity()}
+     * is set, so that the data of the session stays in the caches of one core.
+     * A worker whose run queue grows while another is idle may hand whole
+     * sessions over to it, never single callbacks, and only sessions that are
+     * not scheduled, so that it hands over none of their pending callbacks
+     * and ordering is preserved. Callbacks should not block for long, since
+     * they hold up the other sessions of their worker; endpoints that block
+     * should use {@link #VIRTUAL_THREAD} instead.
+     */
+    ORDERED_POOL;
+
+    /**
+     * The name of the user property of an {@link EndpointConfig} overriding
+     * the dispatch mode of the configuration and of the container for the
+     * endpoint.
+     */
+    public static final String USER_PROPERTY_KEY = "javax.websocket.DispatchMode";
+
+    /**
+     * Return the dispatch mode the given configuration sets for its endpoint
+     * with the user property {@link #USER_PROPERTY_KEY}.
+     *
+     * @param config the configuration of the endpoint.
+     * @return the dispatch mode, or {@code null} if the configuration sets none.
+     * @throws IllegalArgumentException if the configuration is {@code null}, or the
+     * user property is neither a DispatchMode nor the name of one.
+     */
+    public static DispatchMode forConfig(EndpointConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config cannot be null");
+        }
+        Object value = config.getUserProperties().get(USER_PROPERTY_KEY);
+        if (value == null || value instanceof DispatchMode) {
+            return (DispatchMode) value;
+        }
+        if (value instanceof String) {
+            return DispatchMode.valueOf((String) value);
+        }
+        throw new IllegalArgumentException("Invalid " + USER_PROPERTY_KEY + " user property: " + value);
+    }
+}
@@ -68,7 +68,9 @@ package javax.websocket;
  * <p>If the developer provides a custom {@link javax.websocket.server.ServerEndpointConfig.Configurator}
  * which overrides the default policy for endpoint instance creation, for example, 
  * using a single Endpoint instance for multiple client connections, the developer
- * may need to write code that can execute concurrently.
+ * may need to write code that can execute concurrently. The same applies to
+ * server endpoints deployed with the
+ * {@link javax.websocket.server.EndpointInstanceMode#SINGLETON singleton} instance mode.
  *
  * <p>Here is an example of a simple endpoint that echoes any incoming text message back to the sender.
  * <pre><code>
@@ -0,0 +1,192 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An EndpointInvoker adapts one annotated endpoint class to a typed
+ * programmatic {@link Endpoint}, so that its {@link OnOpen}, {@link OnClose},
+ * {@link OnError} and {@link OnMessage} methods are called directly, with their
+ * exact parameter types, instead of through reflection. Invokers are generated
+ * at compile time by an annotation processor, as a class named after the
+ * binary name of the endpoint class followed by {@value #CLASS_NAME_SUFFIX},
+ * in the same package.
+ *
+ * <p>Implementations look up the invoker of an annotated endpoint class with
+ * {@link #forClass(Class)} when they deploy it, and need not reflect over its
+ * methods. For each session, they obtain the endpoint instance as usual and
+ * deploy the Endpoint returned by {@link #newEndpoint(Object)} for it, as they
+ * would deploy a programmatic endpoint:
+ * <ul>
+ * <li>its onOpen method registers one {@link MessageHandler.Whole} or
+ * {@link MessageHandler.Partial} per OnMessage method, typed with the message
+ * type of that method, applies the maxMessageSize of the OnMessage methods to
+ * the session, and then calls the OnOpen method.</li>
+ * <li>path parameters are read from the {@code javax.websocket.server.PathParameters}
+ * of the session with the getter of the declared type, so primitive path
+ * parameters are never boxed. When a path parameter could not be converted to
+ * the declared type, the OnError method is called with the DecodeException in
+ * place of the method declaring it, or, if the class has no OnError method,
+ * the DecodeException is thrown to the implementation wrapped in an
+ * IllegalStateException. Path parameters of the OnError method
+ * itself that could not be converted are passed as null, zero or false.</li>
+ * <li>values returned by OnMessage methods are sent back with the basic
+ * RemoteEndpoint of the session.</li>
+ * <li>exceptions thrown by the annotated methods, and by sending their
+ * results, are passed to the OnError method. Runtime exceptions are thrown on
+ * to the implementation, which passes them to the onError method of the
+ * Endpoint as for any programmatic endpoint.</li>
+ * </ul>
+ * Objects of message types the implementation cannot deliver as they are, such
+ * as decoded objects or Java primitives, are converted with the decoders of
+ * the endpoint configuration as for programmatic endpoints.
+ *
+ * <p>The processor does not generate an invoker for endpoint classes it
+ * cannot adapt fully, for example classes with private annotated methods or
+ * with annotated methods inherited from a superclass, but a declined invoker
+ * replacing any invoker of an earlier compilation of the class.
+ * {@link #forClass(Class)} returns {@code null} for these classes, and
+ * implementations deploy them through reflection as before.
+ *
+ * @param <T> the type of the annotated endpoint.
+ * @since 1.2
+ */
+public abstract class EndpointInvoker<T> {
+
+    /**
+     * The suffix appended to the binary name of an annotated endpoint class
+     * to form the name of its invoker class.
+     */
+    public static final String CLASS_NAME_SUFFIX = "$WebSocketInvoker";
+
+    private final Class<T> endpointClass;
+    private final List<Class<?>> messageTypes;
+
+    /**
+     * Creates the declined invoker the processor writes for an endpoint class
+     * it does not adapt, replacing any invoker generated by an earlier
+     * compilation of the class. {@link #forClass(Class)} returns {@code null}
+     * for it.
+     */
+    protected EndpointInvoker() {
+        this.endpointClass = null;
+        this.messageTypes = Collections.emptyList();
+    }
+
+    /**
+     * Creates an invoker for the given endpoint class.
+     *
+     * @param endpointClass the annotated endpoint class.
+     * @param messageTypes the types the message handlers registered by the
+     * adapters are typed with, one per OnMessage method, in declaration order.
+     */
+    protected EndpointInvoker(Class<T> endpointClass, Class<?>[] messageTypes) {
+        this.endpointClass = endpointClass;
+        this.messageTypes = Collections.unmodifiableList(Arrays.asList(messageTypes.clone()));
+    }
+
+    /**
+     * Return the generated invoker for the given annotated endpoint class.
+     *
+     * @param endpointClass the annotated endpoint class.
+     * @param <T> the type of the annotated endpoint.
+     * @return the invoker, or {@code null} if none was generated for the class,
+     * or the processor declined to adapt it.
+     * @throws IllegalStateException if the invoker class exists but cannot be instantiated,
+     * or is the invoker of another class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EndpointInvoker<T> forClass(Class<T> endpointClass) {
+        Class<?> invokerClass;
+        try {
+            invokerClass = Class.forName(endpointClass.getName() + CLASS_NAME_SUFFIX, true, endpointClass.getClassLoader());
+        } catch (ClassNotFoundException cnfe) {
+            return null;
+        }
+        EndpointInvoker<?> invoker;
+        try {
+            invoker = (EndpointInvoker<?>) invokerClass.newInstance();
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot instantiate endpoint invoker " + invokerClass.getName(), e);
+        }
+        if (invoker.getEndpointClass() == null) {
+            return null;
+        }
+        if (invoker.getEndpointClass() != endpointClass) {
+            throw new IllegalStateException("Endpoint invoker " + invokerClass.getName()
+                    + " does not invoke " + endpointClass.getName());
+        }
+        return (EndpointInvoker<T>) invoker;
+    }
+
+    /**
+     * Return the annotated endpoint class this invoker adapts.
+     *
+     * @return the endpoint class, or {@code null} for a declined invoker.
+     */
+    public final Class<T> getEndpointClass() {
+        return this.endpointClass;
+    }
+
+    /**
+     * Return the types the message handlers registered by the adapters are
+     * typed with, one per OnMessage method, so that implementations may
+     * validate the endpoint and select its decoders when deploying it.
+     * Primitive message types are reported as their class equivalent.
+     *
+     * @return the unmodifiable list of message types.
+     */
+    public final List<Class<?>> getMessageTypes() {
+        return this.messageTypes;
+    }
+
+    /**
+     * Create the programmatic endpoint adapting the given endpoint instance for
+     * a new session. Implementations create one adapter per session, even when
+     * sessions share an endpoint instance.
+     *
+     * @param endpoint the endpoint instance.
+     * @return the adapter.
+     */
+    public abstract Endpoint newEndpoint(T endpoint);
+}
@@ -0,0 +1,99 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+/**
+ * Service provider class for extensions that transform websocket frames, for
+ * example to compress or encrypt them. Implementations discover extension
+ * providers using the
+ * <a href="http://docs.oracle.com/javase/7/docs/api/java/util/ServiceLoader.html">ServiceLoader</a>.
+ * Specifically, the fully qualified classname of the ExtensionProvider
+ * subclass must be listed in the META-INF/services/javax.websocket.ExtensionProvider
+ * file in the JAR file containing it.
+ *
+ * <p>The extension of each provider is part of the set returned by
+ * {@link WebSocketContainer#getInstalledExtensions()}, and so takes part in
+ * negotiation through
+ * {@link javax.websocket.server.ServerEndpointConfig.Configurator#getNegotiatedExtensions(java.util.List, java.util.List)}
+ * on the server side, and through the extensions of the
+ * {@link ClientEndpointConfig} on the client side. Once the opening handshake
+ * has completed, the implementation asks the provider of each negotiated
+ * extension for the {@link FrameTransform} it will use for the new session.
+ *
+ * <p>An extension provided this way takes precedence over an extension of the
+ * same name built into the implementation.
+ *
+ * @since 1.2
+ */
+public abstract class ExtensionProvider {
+
+    /**
+     * Return the extension this provider implements, with the parameters it
+     * offers by default.
+     *
+     * @return the installed extension.
+     */
+    public abstract Extension getExtension();
+
+    /**
+     * Called by a server implementation for each offer of this extension a client
+     * makes in its opening handshake, in order to formulate the parameters
+     * of the response. The default implementation accepts the offer as it is.
+     *
+     * @param requested the extension as offered by the client.
+     * @return the extension as accepted by the server, or {@code null} to decline the offer.
+     */
+    public Extension accept(Extension requested) {
+        return requested;
+    }
+
+    /**
+     * Create the transform that will process the frames of a new session that
+     * negotiated this extension.
+     *
+     * @param negotiated the extension with the parameters agreed in the opening handshake.
+     * @param client whether the session is that of a client endpoint.
+     * @param bufferPool the pool the transform obtains its buffers from.
+     * @return the transform for the session.
+     * @throws DeploymentException if the negotiated parameters cannot be supported,
+     * in which case the implementation fails the connection.
+     */
+    public abstract FrameTransform createTransform(Extension negotiated, boolean client, BufferPool bufferPool) throws DeploymentException;
+}
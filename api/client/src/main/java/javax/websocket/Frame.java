@@ -0,0 +1,222 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A single websocket data frame as seen by a {@link FrameTransform}. See
+ * <a href="http://tools.ietf.org/html/rfc6455#section-5.2">Base Framing Protocol</a>.
+ * The payload is held by reference and is never copied by this class, so that
+ * transforms which do not need to change a frame may pass it along as it is,
+ * or return a frame referring to a slice of it, as described in
+ * {@link FrameTransform}.
+ * The payload is always unmasked.
+ *
+ * @since 1.2
+ */
+public final class Frame {
+
+    /**
+     * The opcode of a continuation frame.
+     */
+    public static final byte CONTINUATION = 0x0;
+    /**
+     * The opcode of a text frame.
+     */
+    public static final byte TEXT = 0x1;
+    /**
+     * The opcode of a binary frame.
+     */
+    public static final byte BINARY = 0x2;
+    /**
+     * The opcode of a close frame.
+     */
+    public static final byte CLOSE = 0x8;
+    /**
+     * The opcode of a ping frame.
+     */
+    public static final byte PING = 0x9;
+    /**
+     * The opcode of a pong frame.
+     */
+    public static final byte PONG = 0xA;
+
+    private final boolean fin;
+    private final boolean rsv1;
+    private final boolean rsv2;
+    private final boolean rsv3;
+    private final byte opcode;
+    private final ByteBuffer payload;
+    private final boolean pooled;
+
+    /**
+     * Creates a frame with the given header bits, opcode and payload, the
+     * payload not being owned by a {@link BufferPool}.
+     *
+     * @param fin     whether this is the final frame of a message.
+     * @param rsv1    the value of the RSV1 bit.
+     * @param rsv2    the value of the RSV2 bit.
+     * @param rsv3    the value of the RSV3 bit.
+     * @param opcode  the opcode of the frame.
+     * @param payload the unmasked application data, may not be {@code null}.
+     */
+    public Frame(boolean fin, boolean rsv1, boolean rsv2, boolean rsv3, byte opcode, ByteBuffer payload) {
+        this(fin, rsv1, rsv2, rsv3, opcode, payload, false);
+    }
+
+    /**
+     * Creates a frame with the given header bits, opcode and payload. A pooled
+     * payload must be a buffer returned by {@link BufferPool#acquire(int)},
+     * not a slice or duplicate of one, and ownership of it passes to the
+     * implementation with the frame.
+     *
+     * @param fin     whether this is the final frame of a message.
+     * @param rsv1    the value of the RSV1 bit.
+     * @param rsv2    the value of the RSV2 bit.
+     * @param rsv3    the value of the RSV3 bit.
+     * @param opcode  the opcode of the frame.
+     * @param payload the unmasked application data, may not be {@code null}.
+     * @param pooled  whether the payload was acquired from the {@link BufferPool}
+     *                of the transform creating the frame.
+     */
+    public Frame(boolean fin, boolean rsv1, boolean rsv2, boolean rsv3, byte opcode, ByteBuffer payload,
+                 boolean pooled) {
+        if (payload == null) {
+            throw new IllegalArgumentException("payload cannot be null");
+        }
+        this.fin = fin;
+        this.rsv1 = rsv1;
+        this.rsv2 = rsv2;
+        this.rsv3 = rsv3;
+        this.opcode = opcode;
+        this.payload = payload;
+        this.pooled = pooled;
+    }
+
+    /**
+     * Return whether this is the final frame of a message.
+     *
+     * @return the value of the FIN bit.
+     */
+    public boolean isFin() {
+        return this.fin;
+    }
+
+    /**
+     * Return the value of the RSV1 bit.
+     *
+     * @return the value of the RSV1 bit.
+     */
+    public boolean isRsv1() {
+        return this.rsv1;
+    }
+
+    /**
+     * Return the value of the RSV2 bit.
+     *
+     * @return the value of the RSV2 bit.
+     */
+    public boolean isRsv2() {
+        return this.rsv2;
+    }
+
+    /**
+     * Return the value of the RSV3 bit.
+     *
+     * @return the value of the RSV3 bit.
+     */
+    public boolean isRsv3() {
+        return this.rsv3;
+    }
+
+    /**
+     * Return the opcode of this frame.
+     *
+     * @return the opcode.
+     */
+    public byte getOpcode() {
+        return this.opcode;
+    }
+
+    /**
+     * Return whether this is a control frame (close, ping or pong).
+     *
+     * @return whether this is a control frame.
+     */
+    public boolean isControl() {
+        return (this.opcode & 0x8) != 0;
+    }
+
+    /**
+     * Return the payload of this frame. The returned buffer is the one this
+     * frame was created with, its position and limit delimiting the application
+     * data.
+     *
+     * @return the payload.
+     */
+    public ByteBuffer getPayload() {
+        return this.payload;
+    }
+
+    /**
+     * Return whether the payload of this frame was acquired from a
+     * {@link BufferPool}, in which case the implementation releases it to the
+     * pool once the frame has been consumed.
+     *
+     * @return whether the payload is pooled.
+     */
+    public boolean isPooled() {
+        return this.pooled;
+    }
+
+    /**
+     * Converts the Frame to a debug-friendly string. The exact format
+     * is not defined by the specification and may change in future releases.
+     *
+     * @return A String representation of this Frame
+     */
+    @Override
+    public String toString() {
+        return "Frame[" + this.opcode + (this.fin ? ",fin" : "")
+                + (this.rsv1 ? ",rsv1" : "") + (this.rsv2 ? ",rsv2" : "") + (this.rsv3 ? ",rsv3" : "")
+                + "," + this.payload.remaining() + "]";
+    }
+}
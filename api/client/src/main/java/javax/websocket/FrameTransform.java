@@ -0,0 +1,104 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.io.IOException;
+
+/**
+ * A FrameTransform applies the processing of one negotiated extension to the
+ * frames of a single session. Instances are created by an
+ * {@link ExtensionProvider} once the opening handshake has completed.
+ *
+ * <p>The implementation passes outgoing frames through the transforms in the
+ * order the extensions were negotiated, and incoming frames through them in the
+ * reverse order, as described in
+ * <a href="http://tools.ietf.org/html/rfc6455#section-9.1">Negotiating Extensions</a>.
+ * The implementation calls each transform by at most one thread at a time per
+ * direction.
+ *
+ * <p>A transform that has nothing to change returns the frame it was given,
+ * so that its payload is not copied. A transform may also return a frame
+ * whose payload refers to the payload of the frame passed in, such as a slice
+ * leaving out a header, if that frame is not pooled: the implementation then
+ * keeps that payload unchanged and does not reuse it until the returned frame
+ * has been written or delivered. The payload of a pooled frame passed in is
+ * only valid until the method returns. A transform that produces a new
+ * payload either allocates it, or acquires it from the {@link BufferPool} it
+ * was created with and marks the returned frame as {@link Frame#isPooled() pooled}. Only buffers returned by
+ * {@link BufferPool#acquire(int)} itself, never slices of them nor the payload
+ * of the frame passed in, may back a pooled frame.
+ *
+ * <p>The implementation alone releases pooled payloads, always to the pool they
+ * were acquired from: when a transform returns a frame other than the one it
+ * was given, the payload of the frame given is released as soon as the
+ * transform returns if that frame is pooled, and the payload of the last frame
+ * is released once it has been written or delivered. A transform therefore
+ * never releases a buffer it has put in a returned frame, and must not return a
+ * frame whose payload refers to a pooled payload it was given.
+ *
+ * @since 1.2
+ */
+public interface FrameTransform {
+
+    /**
+     * Transform a frame received from the peer.
+     *
+     * @param frame the frame as received from the peer, or as returned by the transform preceding this one.
+     * @return the transformed frame, possibly the same instance.
+     * @throws IOException if the frame could not be transformed, in which case the implementation
+     * closes the session with a close code of {@link CloseReason.CloseCodes#PROTOCOL_ERROR}.
+     */
+    Frame processInbound(Frame frame) throws IOException;
+
+    /**
+     * Transform a frame about to be sent to the peer.
+     *
+     * @param frame the frame as produced by the session, or as returned by the transform preceding this one.
+     * @return the transformed frame, possibly the same instance.
+     * @throws IOException if the frame could not be transformed, in which case the send fails with this error.
+     */
+    Frame processOutbound(Frame frame) throws IOException;
+
+    /**
+     * Called by the implementation once the session has closed, so that the
+     * transform may release the resources it holds.
+     */
+    void close();
+}
@@ -0,0 +1,570 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A first class representation of the permessage-deflate extension defined in
+ * <a href="http://tools.ietf.org/html/rfc7692">RFC 7692</a>. Instances of this
+ * class may be passed in the extension list of a
+ * {@link ClientEndpointConfig.Builder#extensions(java.util.List) client} or
+ * {@link javax.websocket.server.ServerEndpointConfig.Builder#extensions(java.util.List) server}
+ * endpoint configuration in order to tune the compression the implementation
+ * performs for sessions using that configuration.
+ *
+ * <p>The negotiated attributes (context takeover and window bits) are reported
+ * as extension parameters by {@link #getParameters()}, in the form
+ * they appear in the Sec-WebSocket-Extensions header. The local attributes (the
+ * compression level, the compression threshold and the size of the compressor
+ * pool) are never sent to the peer.
+ *
+ * <p>An extension may carry a preset dictionary identified by a dictionary id.
+ * Small messages that share most of their content, for example JSON objects
+ * with identical keys, compress poorly without context takeover because each
+ * message starts from an empty window. Preloading the same dictionary into the
+ * compressor and the decompressor at the start of each message gives them a
+ * common history to refer to. The dictionary id is negotiated as the
+ * {@value #DICTIONARY_ID} extension parameter; the dictionary itself must be
+ * known in advance to both peers and is never sent. A server that holds several
+ * dictionaries lists one extension per dictionary in its configuration, and
+ * accepts the first one the client offers. Since peers that do not understand
+ * the parameter decline the offer, clients should follow an offer carrying a
+ * dictionary id with a plain offer.
+ *
+ * <p>When context takeover is disabled for a direction, the compression state
+ * need not survive from one message to the next. Implementations must not
+ * then dedicate a {@link java.util.zip.Deflater} or {@link java.util.zip.Inflater}
+ * to each session, but instead borrow one from a pool shared by all the sessions
+ * using an equal configuration for the duration of a single message, resetting
+ * it before returning it to the pool. Configurations are equal when their
+ * extensions are {@link #equals(Object) equal}. The pool retains at most
+ * {@link #getCompressorPoolSize()} idle instances of each kind.
+ *
+ * <p>The extensions negotiated during the opening handshake, for example by
+ * the platform default
+ * {@link javax.websocket.server.ServerEndpointConfig.Configurator#getNegotiatedExtensions(java.util.List, java.util.List)},
+ * are those the peer sent, which carry only the negotiated parameters. The
+ * implementation maps a negotiated permessage-deflate extension back to the
+ * instance of this class in the local configuration it was matched against,
+ * the first one with the same dictionary id, and takes the local attributes
+ * from that instance. If the local configuration has none, the implementation
+ * uses the defaults of {@link Builder#create()} for the local attributes.
+ *
+ * <p>For example:
+ * <pre><code>
+ * Extension deflate = PerMessageDeflateExtension.Builder.create()
+ *         .serverNoContextTakeover(true)
+ *         .clientNoContextTakeover(true)
+ *         .compressionLevel(Deflater.BEST_SPEED)
+ *         .build();
+ * ServerEndpointConfig config = ServerEndpointConfig.Builder.create(ProgrammaticEndpoint.class, "/foo")
+ *         .extensions(Collections.singletonList(deflate))
+ *         .build();
+ * </code></pre>
+ *
+ * @since 1.2
+ */
+public final class PerMessageDeflateExtension implements Extension {
+
+    /**
+     * The registered name of the extension.
+     */
+    public static final String NAME = "permessage-deflate";
+    /**
+     * The server_no_context_takeover extension parameter name.
+     */
+    public static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    /**
+     * The client_no_context_takeover extension parameter name.
+     */
+    public static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    /**
+     * The server_max_window_bits extension parameter name.
+     */
+    public static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    /**
+     * The client_max_window_bits extension parameter name.
+     */
+    public static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+    /**
+     * The extension parameter name carrying the id of the preset dictionary.
+     */
+    public static final String DICTIONARY_ID = "x_dictionary_id";
+
+    private final boolean serverNoContextTakeover;
+    private final boolean clientNoContextTakeover;
+    private final int serverMaxWindowBits;
+    private final int clientMaxWindowBits;
+    private final int compressionLevel;
+    private final int compressorPoolSize;
+    private final int compressionThreshold;
+    private final String dictionaryId;
+    private final byte[] dictionary;
+    private final List<Extension.Parameter> parameters;
+
+    private PerMessageDeflateExtension(Builder builder) {
+        this.serverNoContextTakeover = builder.serverNoContextTakeover;
+        this.clientNoContextTakeover = builder.clientNoContextTakeover;
+        this.serverMaxWindowBits = builder.serverMaxWindowBits;
+        this.clientMaxWindowBits = builder.clientMaxWindowBits;
+        this.compressionLevel = builder.compressionLevel;
+        this.compressorPoolSize = builder.compressorPoolSize;
+        this.compressionThreshold = builder.compressionThreshold;
+        this.dictionaryId = builder.dictionaryId;
+        this.dictionary = builder.dictionary;
+
+        List<Extension.Parameter> params = new ArrayList<Extension.Parameter>();
+        if (this.serverNoContextTakeover) {
+            params.add(new DeflateParameter(SERVER_NO_CONTEXT_TAKEOVER, null));
+        }
+        if (this.clientNoContextTakeover) {
+            params.add(new DeflateParameter(CLIENT_NO_CONTEXT_TAKEOVER, null));
+        }
+        if (this.serverMaxWindowBits != 0) {
+            params.add(new DeflateParameter(SERVER_MAX_WINDOW_BITS, String.valueOf(this.serverMaxWindowBits)));
+        }
+        if (this.clientMaxWindowBits != 0) {
+            params.add(new DeflateParameter(CLIENT_MAX_WINDOW_BITS, String.valueOf(this.clientMaxWindowBits)));
+        }
+        if (this.dictionaryId != null) {
+            params.add(new DeflateParameter(DICTIONARY_ID, this.dictionaryId));
+        }
+        this.parameters = Collections.unmodifiableList(params);
+    }
+
+    /**
+     * Return the name of the extension, always {@value #NAME}.
+     *
+     * @return the name of the extension.
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Return the negotiated parameters of this extension in the order
+     * they appear in the http headers.
+     *
+     * @return the read-only list of extension parameters.
+     */
+    @Override
+    public List<Extension.Parameter> getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * Return whether the server resets its compression context after each message.
+     *
+     * @return whether server context takeover is disabled.
+     */
+    public boolean isServerNoContextTakeover() {
+        return this.serverNoContextTakeover;
+    }
+
+    /**
+     * Return whether the client resets its compression context after each message.
+     *
+     * @return whether client context takeover is disabled.
+     */
+    public boolean isClientNoContextTakeover() {
+        return this.clientNoContextTakeover;
+    }
+
+    /**
+     * Return the base-2 logarithm of the LZ77 window the server may use to
+     * compress messages, or 0 if the value is not restricted.
+     *
+     * @return the server window bits, between 8 and 15, or 0.
+     */
+    public int getServerMaxWindowBits() {
+        return this.serverMaxWindowBits;
+    }
+
+    /**
+     * Return the base-2 logarithm of the LZ77 window the client may use to
+     * compress messages, or 0 if the value is not restricted.
+     *
+     * @return the client window bits, between 8 and 15, or 0.
+     */
+    public int getClientMaxWindowBits() {
+        return this.clientMaxWindowBits;
+    }
+
+    /**
+     * Return the level the local endpoint compresses outgoing messages with,
+     * as defined by {@link java.util.zip.Deflater#setLevel(int)}.
+     *
+     * @return the compression level.
+     */
+    public int getCompressionLevel() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Return the maximum number of idle compressors and decompressors the
+     * implementation retains for sessions negotiated without context takeover.
+     * A value of 0 means the implementation may choose the size of the pool.
+     *
+     * @return the maximum number of pooled instances of each kind.
+     */
+    public int getCompressorPoolSize() {
+        return this.compressorPoolSize;
+    }
+
+    /**
+     * Return the payload size in bytes below which the local endpoint sends
+     * messages uncompressed, with the RSV1 bit unset. Text messages are measured
+     * by their UTF-8 encoded length. Messages sent in parts are measured by their
+     * first part. A value of 0 means every message is compressed unless
+     * compression has been disabled on the sending
+     * {@link RemoteEndpoint#setCompressionAllowed(boolean) RemoteEndpoint}.
+     *
+     * @return the compression threshold in bytes.
+     */
+    public int getCompressionThreshold() {
+        return this.compressionThreshold;
+    }
+
+    /**
+     * Return the id of the preset dictionary of this extension.
+     *
+     * @return the dictionary id, or {@code null} if there is no preset dictionary.
+     */
+    public String getDictionaryId() {
+        return this.dictionaryId;
+    }
+
+    /**
+     * Return a read-only view of the preset dictionary of this extension. Each
+     * call returns a new view, positioned at the start of the dictionary, but
+     * the bytes are not copied. Implementations set the dictionary on the
+     * {@link java.util.zip.Deflater} and {@link java.util.zip.Inflater} at the
+     * start of each message processed without context takeover, and at the
+     * start of the first message otherwise. Implementations that need the
+     * dictionary as an array copy it once per configuration, not once per
+     * message.
+     *
+     * @return the dictionary, or {@code null} if there is no preset dictionary.
+     */
+    public ByteBuffer getDictionary() {
+        return (this.dictionary == null) ? null : ByteBuffer.wrap(this.dictionary).asReadOnlyBuffer();
+    }
+
+    /**
+     * Compares this extension with another object. Two permessage-deflate
+     * extensions are equal when all their attributes, negotiated and local,
+     * are equal, including the content of their preset dictionaries.
+     *
+     * @param obj the object to compare with.
+     * @return whether the object is an equal extension.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PerMessageDeflateExtension)) {
+            return false;
+        }
+        PerMessageDeflateExtension other = (PerMessageDeflateExtension) obj;
+        return this.serverNoContextTakeover == other.serverNoContextTakeover
+                && this.clientNoContextTakeover == other.clientNoContextTakeover
+                && this.serverMaxWindowBits == other.serverMaxWindowBits
+                && this.clientMaxWindowBits == other.clientMaxWindowBits
+                && this.compressionLevel == other.compressionLevel
+                && this.compressorPoolSize == other.compressorPoolSize
+                && this.compressionThreshold == other.compressionThreshold
+                && (this.dictionaryId == null ? other.dictionaryId == null : this.dictionaryId.equals(other.dictionaryId))
+                && Arrays.equals(this.dictionary, other.dictionary);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of this extension.
+     */
+    @Override
+    public int hashCode() {
+        int result = (this.serverNoContextTakeover ? 1 : 0);
+        result = 31 * result + (this.clientNoContextTakeover ? 1 : 0);
+        result = 31 * result + this.serverMaxWindowBits;
+        result = 31 * result + this.clientMaxWindowBits;
+        result = 31 * result + this.compressionLevel;
+        result = 31 * result + this.compressorPoolSize;
+        result = 31 * result + this.compressionThreshold;
+        result = 31 * result + (this.dictionaryId == null ? 0 : this.dictionaryId.hashCode());
+        result = 31 * result + Arrays.hashCode(this.dictionary);
+        return result;
+    }
+
+    /**
+     * Converts the extension to a debug-friendly string. The exact format
+     * is not defined by the specification and may change in future releases.
+     *
+     * @return A String representation of this extension
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(NAME);
+        for (Extension.Parameter parameter : this.parameters) {
+            sb.append("; ").append(parameter.getName());
+            if (parameter.getValue() != null) {
+                sb.append('=').append(parameter.getValue());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static final class DeflateParameter implements Extension.Parameter {
+        private final String name;
+        private final String value;
+
+        DeflateParameter(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public String getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * The PerMessageDeflateExtension.Builder is a class used for creating
+     * {@link PerMessageDeflateExtension} objects.
+     *
+     * <p>Note that implementations compressing with {@link java.util.zip.Deflater}
+     * always use a 32K window, and so must decline an offer that restricts the
+     * window of the side they compress for.
+     */
+    public static final class Builder {
+        private boolean serverNoContextTakeover;
+        private boolean clientNoContextTakeover;
+        private int serverMaxWindowBits;
+        private int clientMaxWindowBits;
+        private int compressionLevel = -1;
+        private int compressorPoolSize;
+        private int compressionThreshold;
+        private String dictionaryId;
+        private byte[] dictionary;
+
+        // use create()
+        private Builder() {
+        }
+
+        /**
+         * Creates a new builder with context takeover enabled in both directions,
+         * unrestricted window sizes, the default compression level, no compression
+         * threshold, no preset dictionary and an implementation chosen compressor
+         * pool size.
+         *
+         * @return a new builder object.
+         */
+        public static PerMessageDeflateExtension.Builder create() {
+            return new PerMessageDeflateExtension.Builder();
+        }
+
+        /**
+         * Builds the extension using the attributes set on this builder.
+         *
+         * @return a new extension object.
+         */
+        public PerMessageDeflateExtension build() {
+            return new PerMessageDeflateExtension(this);
+        }
+
+        /**
+         * Sets whether the server resets its compression context after each message.
+         *
+         * @param serverNoContextTakeover whether server context takeover is disabled.
+         * @return this builder instance.
+         */
+        public PerMessageDeflateExtension.Builder serverNoContextTakeover(boolean serverNoContextTakeover) {
+            this.serverNoContextTakeover = serverNoContextTakeover;
+            return this;
+        }
+
+        /**
+         * Sets whether the client resets its compression context after each message.
+         *
+         * @param clientNoContextTakeover whether client context takeover is disabled.
+         * @return this builder instance.
+         */
+        public PerMessageDeflateExtension.Builder clientNoContextTakeover(boolean clientNoContextTakeover) {
+            this.clientNoContextTakeover = clientNoContextTakeover;
+            return this;
+        }
+
+        /**
+         * Sets the server window bits.
+         *
+         * @param serverMaxWindowBits the window bits, between 8 and 15, or 0 to leave it unrestricted.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is out of range.
+         */
+        public PerMessageDeflateExtension.Builder serverMaxWindowBits(int serverMaxWindowBits) {
+            this.serverMaxWindowBits = checkWindowBits(serverMaxWindowBits);
+            return this;
+        }
+
+        /**
+         * Sets the client window bits.
+         *
+         * @param clientMaxWindowBits the window bits, between 8 and 15, or 0 to leave it unrestricted.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is out of range.
+         */
+        public PerMessageDeflateExtension.Builder clientMaxWindowBits(int clientMaxWindowBits) {
+            this.clientMaxWindowBits = checkWindowBits(clientMaxWindowBits);
+            return this;
+        }
+
+        /**
+         * Sets the compression level used for outgoing messages.
+         *
+         * @param compressionLevel the level, between 0 and 9, or -1 for the default level.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is out of range.
+         */
+        public PerMessageDeflateExtension.Builder compressionLevel(int compressionLevel) {
+            if (compressionLevel < -1 || compressionLevel > 9) {
+                throw new IllegalArgumentException("Compression level must be between -1 and 9: " + compressionLevel);
+            }
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle compressors and decompressors retained
+         * for sessions without context takeover.
+         *
+         * @param compressorPoolSize the pool size, or 0 to let the implementation choose.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public PerMessageDeflateExtension.Builder compressorPoolSize(int compressorPoolSize) {
+            if (compressorPoolSize < 0) {
+                throw new IllegalArgumentException("Compressor pool size cannot be negative: " + compressorPoolSize);
+            }
+            this.compressorPoolSize = compressorPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets the payload size below which outgoing messages are sent uncompressed.
+         * Small control-like messages such as heartbeats and acknowledgements
+         * rarely shrink when deflated, and compressing them only costs CPU time.
+         *
+         * @param compressionThreshold the threshold in bytes, or 0 to compress every message.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public PerMessageDeflateExtension.Builder compressionThreshold(int compressionThreshold) {
+            if (compressionThreshold < 0) {
+                throw new IllegalArgumentException("Compression threshold cannot be negative: " + compressionThreshold);
+            }
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the preset dictionary, and the id under which it is negotiated.
+         * Only the last 32K of the dictionary are used.
+         *
+         * @param dictionaryId the dictionary id, an HTTP token as defined in
+         * <a href="https://tools.ietf.org/html/rfc7230#section-3.2.6">RFC 7230</a>
+         * since it is sent as is in the Sec-WebSocket-Extensions header, or
+         * {@code null} to remove the dictionary.
+         * @param dictionary the dictionary, may not be {@code null} or empty if the id is not {@code null}.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the id is not a token or the dictionary is missing.
+         */
+        public PerMessageDeflateExtension.Builder dictionary(String dictionaryId, byte[] dictionary) {
+            if (dictionaryId == null) {
+                this.dictionaryId = null;
+                this.dictionary = null;
+                return this;
+            }
+            if (!isToken(dictionaryId)) {
+                throw new IllegalArgumentException("dictionaryId must be a token: " + dictionaryId);
+            }
+            if (dictionary == null || dictionary.length == 0) {
+                throw new IllegalArgumentException("dictionary cannot be null or empty");
+            }
+            this.dictionaryId = dictionaryId;
+            this.dictionary = dictionary.clone();
+            return this;
+        }
+
+        // RFC 7230 tchar: ALPHA / DIGIT / "!" / "#" / "$" / "%" / "&" / "'" / "*" / "+" / "-" / "." / "^" / "_" / "`" / "|" / "~"
+        private static boolean isToken(String value) {
+            if (value.length() == 0) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                        || "!#$%&'*+-.^_`|~".indexOf(c) >= 0)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int checkWindowBits(int windowBits) {
+            if (windowBits != 0 && (windowBits < 8 || windowBits > 15)) {
+                throw new IllegalArgumentException("Window bits must be between 8 and 15: " + windowBits);
+            }
+            return windowBits;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+/**
+ * A PreparedMessage is a whole websocket message created by
+ * {@link WebSocketContainer#prepareMessage(String)} or
+ * {@link WebSocketContainer#prepareMessage(java.nio.ByteBuffer)} in order to be
+ * sent to many sessions, for example when broadcasting.
+ *
+ * <p>The first time a prepared message is sent to a session, the implementation
+ * applies the extensions the session negotiated to it, and keeps the resulting
+ * unmasked payload, together with the header bits it requires, in the prepared
+ * message. Further sends reuse that payload when the sending session:
+ * <ul>
+ * <li>negotiated the same extensions with equal parameters,</li>
+ * <li>has the same {@link RemoteEndpoint#getCompressionAllowed() compression allowed}
+ * setting, and</li>
+ * <li>has the same local compression attributes, in particular the
+ * {@link PerMessageDeflateExtension#getCompressionThreshold() compression threshold}.</li>
+ * </ul>
+ * so that a message sent to thousands of permessage-deflate sessions is
+ * compressed only once, while a session that disabled compression, or for
+ * which the message is below the threshold, still receives it uncompressed.
+ *
+ * <p>Server sessions send the cached frame bytes as they are. Client sessions
+ * must mask every frame with a fresh masking key, see
+ * <a href="http://tools.ietf.org/html/rfc6455#section-5.3">Client-to-Server Masking</a>,
+ * so they reuse the cached payload but mask it, into a buffer of their own,
+ * for each send. Sessions that negotiated an extension carrying state from one
+ * message to the next, such as permessage-deflate with context takeover,
+ * cannot share the payload and have the message processed individually.
+ *
+ * <p>Prepared messages are immutable and may be sent concurrently to any
+ * number of sessions belonging to the container that created them.
+ *
+ * @since 1.2
+ */
+public interface PreparedMessage {
+
+    /**
+     * Return whether this is a text message.
+     *
+     * @return true for a text message, false for a binary message.
+     */
+    boolean isText();
+
+    /**
+     * Return the length in bytes of the unframed message, the UTF-8 encoded
+     * length in the case of a text message.
+     *
+     * @return the payload length.
+     */
+    int getPayloadLength();
+}
@@ -0,0 +1,298 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.util.Random;
+
+/**
+ * The ReconnectPolicy describes how the container reconnects a client endpoint
+ * whose session was lost. It is set on a {@link ClientEndpointConfig} using
+ * {@link ClientEndpointConfig.Builder#reconnectPolicy(ReconnectPolicy)}.
+ *
+ * <p>A session is considered lost when it closes with
+ * {@link CloseReason.CloseCodes#CLOSED_ABNORMALLY},
+ * {@link CloseReason.CloseCodes#GOING_AWAY},
+ * {@link CloseReason.CloseCodes#UNEXPECTED_CONDITION},
+ * {@link CloseReason.CloseCodes#SERVICE_RESTART} or
+ * {@link CloseReason.CloseCodes#TRY_AGAIN_LATER}, unless the client itself
+ * closed it. Once the endpoint has been notified of the close, the container
+ * waits {@link #getDelay(int, Random)} and connects again to the same URI with
+ * the same configuration, repeating the attempt with growing delays until it
+ * succeeds or {@link #getMaxAttempts()} attempts have failed. The container
+ * calls {@link ClientEndpointConfig.Configurator#beforeReconnect(CloseReason, int)}
+ * before each attempt and
+ * {@link ClientEndpointConfig.Configurator#afterReconnect(Session, long)}
+ * once it has succeeded.
+ *
+ * <p>The same endpoint instance is reused: it is notified of the new session
+ * by its onOpen method, as it was of the first one. The session lost is not
+ * resumed; any state the server needs, such as subscriptions, has to be sent
+ * again, typically from afterReconnect.
+ *
+ * <p>The random jitter spreads the attempts of clients that lost their
+ * sessions at the same time, for example when a server restarts, so that they
+ * do not all reconnect at once. For example:
+ * <pre><code>
+ * ClientEndpointConfig cec = ClientEndpointConfig.Builder.create()
+ *         .reconnectPolicy(ReconnectPolicy.Builder.create()
+ *                 .initialDelay(500)
+ *                 .maxDelay(30000)
+ *                 .multiplier(2.0)
+ *                 .jitter(0.5)
+ *                 .maxAttempts(20)
+ *                 .build())
+ *         .build();
+ * </code></pre>
+ *
+ * @since 1.2
+ */
+public final class ReconnectPolicy {
+
+    /**
+     * The policy never reconnecting, used when none was set.
+     */
+    public static final ReconnectPolicy NONE = new ReconnectPolicy(Builder.create(), -1);
+
+    private final long initialDelay;
+    private final long maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final int maxAttempts;
+
+    private ReconnectPolicy(Builder builder, int maxAttempts) {
+        this.initialDelay = builder.initialDelay;
+        this.maxDelay = Math.max(builder.initialDelay, builder.maxDelay);
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Return whether this policy reconnects lost sessions at all.
+     *
+     * @return {@code false} for {@link #NONE}, {@code true} otherwise.
+     */
+    public boolean isEnabled() {
+        return this.maxAttempts >= 0;
+    }
+
+    /**
+     * Return the number of milliseconds before the first attempt.
+     *
+     * @return the initial delay in milliseconds.
+     */
+    public long getInitialDelay() {
+        return this.initialDelay;
+    }
+
+    /**
+     * Return the number of milliseconds the delay grows to at most.
+     *
+     * @return the maximum delay in milliseconds.
+     */
+    public long getMaxDelay() {
+        return this.maxDelay;
+    }
+
+    /**
+     * Return the factor the delay is multiplied by after each failed attempt.
+     *
+     * @return the multiplier, at least 1.
+     */
+    public double getMultiplier() {
+        return this.multiplier;
+    }
+
+    /**
+     * Return the fraction of each delay that is randomized.
+     *
+     * @return the jitter, between 0 and 1.
+     */
+    public double getJitter() {
+        return this.jitter;
+    }
+
+    /**
+     * Return the number of attempts after which the container gives up.
+     *
+     * @return the maximum number of attempts, 0 if unlimited, or -1 for {@link #NONE}.
+     */
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /**
+     * Return the number of milliseconds to wait before the given attempt. The
+     * delay is the initial delay multiplied by the multiplier once per previous
+     * attempt, capped at the maximum delay, of which a random fraction of up to
+     * the jitter is then taken off.
+     *
+     * @param attempt the attempt, starting at 1.
+     * @param random the source of the jitter.
+     * @return the delay in milliseconds.
+     * @throws IllegalArgumentException if the attempt is less than 1 or the random is {@code null}.
+     */
+    public long getDelay(int attempt, Random random) {
+        if (attempt < 1) {
+            throw new IllegalArgumentException("attempt must be at least 1");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("random cannot be null");
+        }
+        double delay = this.initialDelay * Math.pow(this.multiplier, attempt - 1);
+        if (delay > this.maxDelay) {
+            delay = this.maxDelay;
+        }
+        return (long) (delay * (1.0 - this.jitter * random.nextDouble()));
+    }
+
+    /**
+     * The ReconnectPolicy.Builder is a class used for creating
+     * {@link ReconnectPolicy} objects.
+     */
+    public static final class Builder {
+        private long initialDelay = 1000;
+        private long maxDelay = 60000;
+        private double multiplier = 2.0;
+        private double jitter = 0.5;
+        private int maxAttempts;
+
+        // use create()
+        private Builder() {
+        }
+
+        /**
+         * Creates a new builder for a policy waiting one second before the
+         * first attempt, doubling the delay up to one minute, randomizing half
+         * of each delay, and never giving up.
+         *
+         * @return a new builder object.
+         */
+        public static ReconnectPolicy.Builder create() {
+            return new ReconnectPolicy.Builder();
+        }
+
+        /**
+         * Builds the policy using the attributes set on this builder.
+         *
+         * @return a new policy object.
+         */
+        public ReconnectPolicy build() {
+            return new ReconnectPolicy(this, this.maxAttempts);
+        }
+
+        /**
+         * Sets the number of milliseconds before the first attempt.
+         *
+         * @param initialDelay the initial delay in milliseconds.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public ReconnectPolicy.Builder initialDelay(long initialDelay) {
+            if (initialDelay < 0) {
+                throw new IllegalArgumentException("initialDelay cannot be negative");
+            }
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        /**
+         * Sets the number of milliseconds the delay grows to at most. A
+         * maximum smaller than the initial delay is raised to it.
+         *
+         * @param maxDelay the maximum delay in milliseconds.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public ReconnectPolicy.Builder maxDelay(long maxDelay) {
+            if (maxDelay < 0) {
+                throw new IllegalArgumentException("maxDelay cannot be negative");
+            }
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the factor the delay is multiplied by after each failed attempt.
+         *
+         * @param multiplier the multiplier, 1 for a constant delay.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is less than 1.
+         */
+        public ReconnectPolicy.Builder multiplier(double multiplier) {
+            if (!(multiplier >= 1.0)) {
+                throw new IllegalArgumentException("multiplier must be at least 1");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of each delay that is randomized.
+         *
+         * @param jitter the jitter, 0 for fixed delays, 1 to pick each delay
+         * anywhere between 0 and its full value.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is not between 0 and 1.
+         */
+        public ReconnectPolicy.Builder jitter(double jitter) {
+            if (!(jitter >= 0.0 && jitter <= 1.0)) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the number of attempts after which the container gives up.
+         *
+         * @param maxAttempts the maximum number of attempts, 0 for no limit.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public ReconnectPolicy.Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 0) {
+                throw new IllegalArgumentException("maxAttempts cannot be negative");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+    }
+}
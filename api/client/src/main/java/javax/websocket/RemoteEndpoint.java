@@ -112,6 +112,32 @@ public interface RemoteEndpoint {
      */
     boolean getBatchingAllowed();
 
+    /**
+     * Indicate to the implementation whether it may compress the messages
+     * subsequently sent through this RemoteEndpoint. This setting only has an
+     * effect on sessions that negotiated a compression extension such as
+     * {@link PerMessageDeflateExtension permessage-deflate}. Developers may
+     * disable compression before sending payloads that are already compressed,
+     * such as images, and enable it again afterwards. The value in effect when
+     * a send method is called applies to the whole message, including all
+     * of its parts when the message is sent in parts. The default mode for
+     * RemoteEndpoints is true.
+     *
+     * @param allowed whether the implementation is allowed to compress messages.
+     * @since 1.2
+     */
+    void setCompressionAllowed(boolean allowed);
+
+    /**
+     * Return whether the implementation is allowed to compress outgoing messages.
+     * The default mode for RemoteEndpoints is true. The value may be changed by
+     * calling {@link #setCompressionAllowed(boolean) setCompressionAllowed}.
+     *
+     * @return whether the implementation is allowed to compress messages.
+     * @since 1.2
+     */
+    boolean getCompressionAllowed();
+
     /**
      * This method is only used when batching is allowed for this RemoteEndpint. Calling
      * this method forces the implementation to send any unsent messages it has been batching.
@@ -145,6 +171,16 @@ public interface RemoteEndpoint {
     * defined when all the supplied data has been written to the underlying connection.
     * The completion handlers for the asynchronous methods are always called with 
     * a different thread from that which initiated the send.
+    *
+    * <p>When the session runs over an HTTP/2 stream, data is only written to
+    * the underlying connection as the flow control window of the stream allows,
+    * so a send whose peer is not reading stays incomplete, and subject to the
+    * send timeout, exactly as it would when the TCP connection of an HTTP/1.1
+    * session is congested. The HTTP/2 connection also has a flow control
+    * window of its own, shared by all its streams, so a peer that stops
+    * reading may hold up the sends of the other sessions sharing the
+    * connection; endpoints needing sessions isolated from each other should
+    * not enable HTTP/2.
     */
     interface Async extends RemoteEndpoint {
         
@@ -251,6 +287,36 @@ public interface RemoteEndpoint {
          * @throws IllegalArgumentException if either the data or the handler are {@code null}.
          */
         void sendObject(Object data, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a prepared message. This method
+         * returns before the message is transmitted. Developers use the returned
+         * Future object to track progress of the transmission. The
+         * Future's get() method returns {@code null} upon successful completion. Errors
+         * in transmission are wrapped in the {@link java.util.concurrent.ExecutionException}
+         * thrown when querying the Future object.
+         *
+         * @param message the prepared message being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the message is {@code null} or was
+         * prepared by another container.
+         * @since 1.2
+         */
+        Future<Void> sendPreparedMessage(PreparedMessage message);
+
+        /**
+         * Initiates the asynchronous transmission of a prepared message. This method
+         * returns before the message is transmitted. Developers provide a callback to
+         * be notified when the message has been transmitted. Errors in transmission
+         * are given to the developer in the SendResult object.
+         *
+         * @param message the prepared message being sent.
+         * @param handler the handler that will be notified of progress, must not be {@code null}.
+         * @throws IllegalArgumentException if either the message or the handler are {@code null},
+         * or if the message was prepared by another container.
+         * @since 1.2
+         */
+        void sendPreparedMessage(PreparedMessage message, SendHandler handler);
    
     }
     
@@ -347,6 +413,17 @@ public interface RemoteEndpoint {
          * @throws IllegalArgumentException if the data parameter is {@code null}
          */
         void sendObject(Object data) throws IOException, EncodeException;
+
+        /**
+         * Send a prepared message, blocking until all of the message has been transmitted.
+         *
+         * @param message the prepared message to be sent.
+         * @throws IOException if there is a problem delivering the message.
+         * @throws IllegalArgumentException if the message is {@code null} or was
+         * prepared by another container.
+         * @since 1.2
+         */
+        void sendPreparedMessage(PreparedMessage message) throws IOException;
     }
 
    
@@ -294,6 +294,10 @@ public interface Session extends Closeable {
      * Return the request parameters associated with the request this session
      * was opened under.
      *
+     * <p>Implementations are encouraged to parse the query string only when
+     * this method is first called, rather than for every session that is
+     * opened.
+     *
      * @return the unmodifiable map of the request parameters.
      */
     Map<String, List<String>> getRequestParameterMap();
@@ -0,0 +1,132 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+/**
+ * The TlsSessionCache is the cache of TLS sessions a client container keeps in
+ * order to resume them, so that connecting again to a {@code wss} server it
+ * has connected to before costs an abbreviated TLS handshake instead of a full
+ * one. This matters most when many client endpoints reconnect at once, for
+ * example after a server has restarted.
+ *
+ * <p>The cache holds the session state the servers have allowed to be
+ * resumed, whether kept by the server under a session id or sent to the
+ * client as a session ticket, keyed by the host and port of the server. Its
+ * size and the lifetime of its entries are bounded. The cache is shared by all
+ * the client endpoints of the container, and may be accessed by concurrent
+ * threads.
+ *
+ * @see WebSocketContainer#getTlsSessionCache()
+ * @since 1.2
+ */
+public interface TlsSessionCache {
+
+    /**
+     * Return the maximum number of servers the cache holds sessions for. When
+     * the cache is full, the least recently used entry is evicted.
+     *
+     * @return the maximum size, or 0 if unlimited.
+     */
+    int getMaxSize();
+
+    /**
+     * Sets the maximum number of servers the cache holds sessions for. Lowering
+     * it evicts the least recently used entries in excess.
+     *
+     * @param maxSize the maximum size, or 0 for no limit.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    void setMaxSize(int maxSize);
+
+    /**
+     * Return the number of milliseconds after which a cached session is no
+     * longer offered for resumption. A server may allow a shorter lifetime, in
+     * which case the shorter one applies.
+     *
+     * @return the timeout in milliseconds, or 0 if entries only expire when the server says so.
+     */
+    long getTimeout();
+
+    /**
+     * Sets the number of milliseconds after which a cached session is no
+     * longer offered for resumption.
+     *
+     * @param timeoutmillis the timeout in milliseconds, or 0 to let entries
+     * expire only when the server says so.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    void setTimeout(long timeoutmillis);
+
+    /**
+     * Return the number of servers the cache currently holds sessions for.
+     *
+     * @return the size of the cache.
+     */
+    int size();
+
+    /**
+     * Return the number of TLS handshakes that resumed a cached session since
+     * the container started or the counts were last reset.
+     *
+     * @return the number of resumed handshakes.
+     */
+    long getHitCount();
+
+    /**
+     * Return the number of TLS handshakes that were full handshakes, either
+     * because no session was cached for the server or because the server
+     * declined to resume it, since the container started or the counts were
+     * last reset.
+     *
+     * @return the number of full handshakes.
+     */
+    long getMissCount();
+
+    /**
+     * Resets the hit and miss counts to 0.
+     */
+    void resetCounts();
+
+    /**
+     * Removes every entry from the cache, so that the next connection to each
+     * server makes a full handshake.
+     */
+    void clear();
+}
@@ -0,0 +1,186 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+/**
+ * The Transports class holds the URI schemes client endpoints may connect
+ * with, and helps building and reading URIs that use them. Containers support
+ * {@link #WS} and {@link #WSS}; support for the other schemes is optional, and
+ * connecting with an unsupported scheme fails with a DeploymentException.
+ * Whatever the transport, sessions have the full semantics of
+ * {@link Session} and {@link RemoteEndpoint}.
+ *
+ * @since 1.2
+ */
+public final class Transports {
+
+    /**
+     * The scheme of web socket connections over TCP.
+     */
+    public static final String WS = "ws";
+
+    /**
+     * The scheme of web socket connections over TLS over TCP.
+     */
+    public static final String WSS = "wss";
+
+    /**
+     * The scheme of web socket connections over a Unix domain socket, for
+     * peers running on the same host. The authority of the URI is the
+     * percent-encoded path of the socket file, and its path and query are
+     * those of the opening handshake request, for example
+     * {@code ws+unix://%2Fvar%2Frun%2Fapp.sock/chat}. Such URIs are best built
+     * with {@link #unixSocketURI(String, String)}. The container connects to a
+     * {@code java.net.UnixDomainSocketAddress}, so the scheme requires a Java
+     * runtime providing it, and a server container listening on the socket,
+     * see {@link javax.websocket.server.ServerContainer#addListenAddress(java.net.SocketAddress)}.
+     */
+    public static final String WS_UNIX = "ws+unix";
+
+    /**
+     * The scheme of web socket sessions between a client endpoint and a
+     * server endpoint deployed in the same Java virtual machine by the same
+     * implementation, which involve no connection at all. The path and query
+     * of the URI are those of the opening handshake request, including the
+     * context path of the application of the server endpoint, for example
+     * {@code inproc:/myapp/chat}.
+     *
+     * <p>The opening handshake takes place as usual, so the configurators of
+     * both endpoints are called, but no extension is negotiated. Messages are
+     * then handed from the RemoteEndpoint of one endpoint to the receive queue
+     * of the other without being framed or masked, and delivered from that
+     * queue to its message handlers:
+     * <ul>
+     * <li>text messages are passed as the String sent, without copying, since
+     * Strings cannot change. Binary messages are copied into a buffer of the
+     * receiving session when they are queued, so the sender may reuse its
+     * buffer as soon as its send has completed, as over a connection.</li>
+     * <li>objects sent with sendObject are encoded with the encoders of the
+     * sending endpoint and decoded with the decoders of the receiving
+     * endpoint, as over a connection, so the receiver never shares an object
+     * with the sender.</li>
+     * <li>a send completes once the message is in the receive queue of the
+     * other endpoint, not once it has been handled, so endpoints may send
+     * requests and replies to each other from their message handlers. The
+     * receive queue holds up to {@link #INPROC_QUEUE_CAPACITY} messages; a send
+     * to a full queue completes only when the queue has room again, so a slow
+     * receiver holds up the sender as a congested connection would, and send
+     * timeouts apply.</li>
+     * <li>messages are delivered in the order they were sent, and message size
+     * limits, pings, pongs and the closing handshake behave as over a
+     * connection.</li>
+     * </ul>
+     */
+    public static final String INPROC = "inproc";
+
+    /**
+     * The number of messages the receive queue of an {@link #INPROC} session
+     * holds before sends to it are held up.
+     */
+    public static final int INPROC_QUEUE_CAPACITY = 64;
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private Transports() {
+    }
+
+    /**
+     * Build the URI connecting over the given Unix domain socket to the given
+     * request path.
+     *
+     * @param socketPath the path of the socket file.
+     * @param requestPath the path of the server endpoint, and optionally a
+     * query, starting with '/'.
+     * @return the {@link #WS_UNIX} URI.
+     * @throws IllegalArgumentException if an argument is {@code null}, or the
+     * request path does not start with '/' or is not a valid URI path.
+     */
+    public static URI unixSocketURI(String socketPath, String requestPath) {
+        if (socketPath == null || requestPath == null) {
+            throw new IllegalArgumentException("socketPath and requestPath cannot be null");
+        }
+        if (!requestPath.startsWith("/")) {
+            throw new IllegalArgumentException("requestPath must start with '/': " + requestPath);
+        }
+        StringBuilder sb = new StringBuilder(WS_UNIX).append("://");
+        byte[] bytes;
+        try {
+            bytes = socketPath.getBytes("UTF-8");
+        } catch (java.io.UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        for (byte b : bytes) {
+            int c = b & 0xFF;
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~') {
+                sb.append((char) c);
+            } else {
+                sb.append('%').append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        sb.append(requestPath);
+        try {
+            return new URI(sb.toString());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid requestPath: " + requestPath, e);
+        }
+    }
+
+    /**
+     * Return the path of the socket file a {@link #WS_UNIX} URI connects over.
+     *
+     * @param uri the URI.
+     * @return the path of the socket file, or {@code null} if the URI does not
+     * use the {@link #WS_UNIX} scheme.
+     * @throws IllegalArgumentException if the URI is {@code null}.
+     */
+    public static String getUnixSocketPath(URI uri) {
+        if (uri == null) {
+            throw new IllegalArgumentException("uri cannot be null");
+        }
+        if (!WS_UNIX.equalsIgnoreCase(uri.getScheme())) {
+            return null;
+        }
+        return uri.getAuthority();
+    }
+}
@@ -41,7 +41,9 @@ package javax.websocket;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 /**
  * A WebSocketContainer is an implementation provided object that provides applications
@@ -56,6 +58,11 @@ import java.util.Set;
  * implementations must ensure the integrity of its mutable attributes in such 
  * circumstances.  
  *
+ * <p>The URIs client endpoints connect to use one of the schemes listed in
+ * {@link Transports}. In particular, {@link Transports#INPROC} URIs connect to
+ * server endpoints deployed in the same Java virtual machine, exchanging
+ * messages by reference, in order, with no framing or copying.
+ *
  * @author dannycoward
  */
 public interface WebSocketContainer {
@@ -163,6 +170,228 @@ public interface WebSocketContainer {
      */
     Session connectToServer(Class<? extends Endpoint> endpointClass, ClientEndpointConfig cec, URI path) throws DeploymentException, IOException;
 
+    /**
+     * Initiates the connection of the supplied annotated endpoint instance to
+     * its server, as {@link #connectToServer(Object, URI)} does, without
+     * blocking. The method returns as soon as the connection attempt has been
+     * started, and the handshake proceeds on the I/O threads of the container,
+     * so a single thread may start many connections.
+     *
+     * <p>The Future completes with the Session once the handshake has
+     * succeeded, or with an ExecutionException whose cause is the
+     * DeploymentException or IOException that {@link #connectToServer(Object, URI)}
+     * would have thrown. If the connection is not established within
+     * {@link #getDefaultConnectTimeout()}, the attempt is aborted and the cause
+     * is a {@link java.net.SocketTimeoutException}. Cancelling the Future
+     * before it has completed aborts the attempt and closes the underlying
+     * connection; the endpoint is not notified.
+     *
+     * @param annotatedEndpointInstance the annotated websocket client endpoint
+     * instance.
+     * @param path the complete path to the server endpoint.
+     * @return the Future object representing the connection attempt.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    Future<Session> connectToServerAsync(Object annotatedEndpointInstance, URI path);
+
+    /**
+     * Initiates the connection of the supplied annotated endpoint to its
+     * server, as {@link #connectToServer(Class, URI)} does, without blocking.
+     * The returned Future behaves as described in
+     * {@link #connectToServerAsync(Object, URI)}.
+     *
+     * @param annotatedEndpointClass the annotated websocket client endpoint.
+     * @param path the complete path to the server endpoint.
+     * @return the Future object representing the connection attempt.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    Future<Session> connectToServerAsync(Class<?> annotatedEndpointClass, URI path);
+
+    /**
+     * Initiates the connection of the supplied programmatic client endpoint
+     * instance to its server with the given configuration, as
+     * {@link #connectToServer(Endpoint, ClientEndpointConfig, URI)} does,
+     * without blocking. The returned Future behaves as described in
+     * {@link #connectToServerAsync(Object, URI)}.
+     *
+     * @param endpointInstance the programmatic client endpoint instance {@link Endpoint}.
+     * @param cec the configuration used to configure the programmatic endpoint.
+     * @param path the complete path to the server endpoint.
+     * @return the Future object representing the connection attempt.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    Future<Session> connectToServerAsync(Endpoint endpointInstance, ClientEndpointConfig cec, URI path);
+
+    /**
+     * Initiates the connection of the supplied programmatic endpoint to its
+     * server with the given configuration, as
+     * {@link #connectToServer(Class, ClientEndpointConfig, URI)} does, without
+     * blocking. The returned Future behaves as described in
+     * {@link #connectToServerAsync(Object, URI)}.
+     *
+     * @param endpointClass the programmatic client endpoint class {@link Endpoint}.
+     * @param cec the configuration used to configure the programmatic endpoint.
+     * @param path the complete path to the server endpoint.
+     * @return the Future object representing the connection attempt.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    Future<Session> connectToServerAsync(Class<? extends Endpoint> endpointClass, ClientEndpointConfig cec, URI path);
+
+    /**
+     * Initiates the connection of the supplied annotated endpoint instance to
+     * its server, as {@link #connectToServerAsync(Object, URI)} does, and
+     * notifies the handler once the attempt has completed rather than
+     * completing a Future. The handler is notified exactly once, on a thread
+     * of the container, with a {@link ConnectResult} carrying the Session, or
+     * the exception the Future would have completed with.
+     *
+     * @param annotatedEndpointInstance the annotated websocket client endpoint
+     * instance.
+     * @param path the complete path to the server endpoint.
+     * @param handler the handler notified when the attempt has completed.
+     * @throws IllegalArgumentException if the handler is {@code null}.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    void connectToServerAsync(Object annotatedEndpointInstance, URI path, ConnectHandler handler);
+
+    /**
+     * Initiates the connection of the supplied annotated endpoint to its
+     * server, as {@link #connectToServerAsync(Class, URI)} does, and notifies
+     * the handler as described in
+     * {@link #connectToServerAsync(Object, URI, ConnectHandler)}.
+     *
+     * @param annotatedEndpointClass the annotated websocket client endpoint.
+     * @param path the complete path to the server endpoint.
+     * @param handler the handler notified when the attempt has completed.
+     * @throws IllegalArgumentException if the handler is {@code null}.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    void connectToServerAsync(Class<?> annotatedEndpointClass, URI path, ConnectHandler handler);
+
+    /**
+     * Initiates the connection of the supplied programmatic client endpoint
+     * instance to its server with the given configuration, as
+     * {@link #connectToServerAsync(Endpoint, ClientEndpointConfig, URI)} does,
+     * and notifies the handler as described in
+     * {@link #connectToServerAsync(Object, URI, ConnectHandler)}.
+     *
+     * @param endpointInstance the programmatic client endpoint instance {@link Endpoint}.
+     * @param cec the configuration used to configure the programmatic endpoint.
+     * @param path the complete path to the server endpoint.
+     * @param handler the handler notified when the attempt has completed.
+     * @throws IllegalArgumentException if the handler is {@code null}.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    void connectToServerAsync(Endpoint endpointInstance, ClientEndpointConfig cec, URI path, ConnectHandler handler);
+
+    /**
+     * Initiates the connection of the supplied programmatic endpoint to its
+     * server with the given configuration, as
+     * {@link #connectToServerAsync(Class, ClientEndpointConfig, URI)} does,
+     * and notifies the handler as described in
+     * {@link #connectToServerAsync(Object, URI, ConnectHandler)}.
+     *
+     * @param endpointClass the programmatic client endpoint class {@link Endpoint}.
+     * @param cec the configuration used to configure the programmatic endpoint.
+     * @param path the complete path to the server endpoint.
+     * @param handler the handler notified when the attempt has completed.
+     * @throws IllegalArgumentException if the handler is {@code null}.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    void connectToServerAsync(Class<? extends Endpoint> endpointClass, ClientEndpointConfig cec, URI path,
+                              ConnectHandler handler);
+
+    /**
+     * Connect the given number of new instances of the supplied annotated
+     * endpoint to the same server, pacing the attempts as described by the
+     * pacing. The method does not block: it returns once the first attempts
+     * have been started, and the handler is notified of each attempt as it
+     * completes, so the sessions can be used as they open.
+     *
+     * <p>The endpoint class is validated and its configuration is processed
+     * once for all the attempts, the host name of the URI is resolved once,
+     * and the attempts share a single TLS context. If the endpoint class is not
+     * valid, no attempt is started and the returned Future completes with an
+     * ExecutionException caused by the DeploymentException. Otherwise the
+     * Future completes, with {@code null}, once the handler has been notified
+     * of every attempt. Cancelling the Future stops further attempts from being
+     * started and aborts those in progress; the handler is not notified of them.
+     *
+     * @param annotatedEndpointClass the annotated websocket client endpoint.
+     * @param path the complete path to the server endpoint.
+     * @param count the number of sessions to open.
+     * @param pacing the pacing of the attempts, {@code null} for {@link ConnectPacing#UNPACED}.
+     * @param handler the handler notified of each attempt.
+     * @return the Future object representing the bulk connect.
+     * @throws IllegalArgumentException if the count is negative or the handler is {@code null}.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    Future<Void> connectToServerBulk(Class<?> annotatedEndpointClass, URI path, int count, ConnectPacing pacing,
+                                     ConnectHandler handler);
+
+    /**
+     * Connect the given number of new instances of the supplied programmatic
+     * endpoint to the same server with the given configuration, pacing the
+     * attempts as described by the pacing. The bulk connect behaves as
+     * described in {@link #connectToServerBulk(Class, URI, int, ConnectPacing, ConnectHandler)};
+     * the configurator of the configuration is called for every attempt.
+     *
+     * @param endpointClass the programmatic client endpoint class {@link Endpoint}.
+     * @param cec the configuration used to configure the programmatic endpoint.
+     * @param path the complete path to the server endpoint.
+     * @param count the number of sessions to open.
+     * @param pacing the pacing of the attempts, {@code null} for {@link ConnectPacing#UNPACED}.
+     * @param handler the handler notified of each attempt.
+     * @return the Future object representing the bulk connect.
+     * @throws IllegalArgumentException if the count is negative or the handler is {@code null}.
+     * @throws IllegalStateException if called during the deployment phase
+     * of the containing application.
+     * @since 1.2
+     */
+    Future<Void> connectToServerBulk(Class<? extends Endpoint> endpointClass, ClientEndpointConfig cec, URI path,
+                                     int count, ConnectPacing pacing, ConnectHandler handler);
+
+    /**
+     * Return the number of milliseconds the implementation waits for a client
+     * connection to be established, from the start of the connection attempt
+     * until the opening handshake has completed. A non-positive number
+     * indicates the implementation will wait as long as the underlying network
+     * allows. This timeout applies to both the blocking and the asynchronous
+     * connect methods.
+     *
+     * @return the timeout time in milliseconds.
+     * @since 1.2
+     */
+    long getDefaultConnectTimeout();
+
+    /**
+     * Sets the number of milliseconds the implementation waits for a client
+     * connection to be established. A non-positive number indicates the
+     * implementation will wait as long as the underlying network allows.
+     *
+     * @param timeoutmillis the timeout time in milliseconds.
+     * @since 1.2
+     */
+    void setDefaultConnectTimeout(long timeoutmillis);
+
 
 
     /**
@@ -223,7 +452,57 @@ public interface WebSocketContainer {
     void setDefaultMaxTextMessageBufferSize(int max);
 
     /**
-     * Return the set of Extensions installed in the container.
+     * Create a text message that can be sent to many sessions of this container
+     * without being framed and compressed again for each of them.
+     *
+     * @param text the text of the message.
+     * @return the prepared message.
+     * @throws IllegalArgumentException if the text is {@code null}.
+     * @since 1.2
+     */
+    PreparedMessage prepareMessage(String text);
+
+    /**
+     * Create a binary message that can be sent to many sessions of this container
+     * without being framed and compressed again for each of them. The
+     * implementation copies the remaining bytes of the buffer, which the caller
+     * may then reuse.
+     *
+     * @param data the data of the message.
+     * @return the prepared message.
+     * @throws IllegalArgumentException if the data is {@code null}.
+     * @since 1.2
+     */
+    PreparedMessage prepareMessage(ByteBuffer data);
+
+    /**
+     * Return the cache of TLS sessions this container resumes when its client
+     * endpoints connect to {@code wss} servers again. The cache may be
+     * configured at any time, and reports how many handshakes were resumed.
+     *
+     * @return the TLS session cache, or {@code null} if the container does not
+     * resume TLS sessions itself, for example because it leaves TLS to a
+     * configured SSLContext.
+     * @since 1.2
+     */
+    TlsSessionCache getTlsSessionCache();
+
+    /**
+     * Return the configuration of the threads this container runs on. Server
+     * containers of web applications return the configuration built from the
+     * ServletContext init parameters described in
+     * {@link javax.websocket.server.ServerContainer}.
+     *
+     * @return the configuration, {@link ContainerConfig#DEFAULT} if none was
+     * given, never {@code null}.
+     * @since 1.2
+     */
+    ContainerConfig getContainerConfig();
+
+    /**
+     * Return the set of Extensions installed in the container. If the container
+     * supports permessage-deflate, the set contains a {@link PerMessageDeflateExtension}
+     * describing the defaults it offers and accepts.
      *
      * @return the set of extensions.
      */
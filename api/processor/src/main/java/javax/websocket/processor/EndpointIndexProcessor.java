@@ -0,0 +1,294 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import javax.websocket.server.EndpointIndex;
+
+/**
+ * Annotation processor writing the {@link EndpointIndex} of a compilation
+ * unit set: its annotated server endpoints, its concrete Endpoint subclasses
+ * and its concrete ServerApplicationConfig implementations, so that
+ * implementations can deploy them without scanning the archive. The processor
+ * is registered as a service and runs whenever this JAR file is on the
+ * compiler's processor path. It examines every class compiled, whether
+ * annotated or not, but claims no annotation.
+ *
+ * <p>When only part of a project is recompiled, the entries of the existing
+ * index whose classes are not part of the compilation are kept as long as the
+ * classes still exist and still qualify. Entries of classes that are part of
+ * the compilation are replaced by what the compilation finds, so a class
+ * recompiled without its annotation, or no longer extending Endpoint, leaves
+ * the index. The existing index is rewritten whenever there is one, even if
+ * the compilation finds nothing to list.
+ *
+ * @since 1.2
+ */
+@SupportedAnnotationTypes("*")
+public class EndpointIndexProcessor extends AbstractProcessor {
+
+    static final String SERVER_ENDPOINT = "javax.websocket.server.ServerEndpoint";
+    private static final String DEFAULT_CONFIGURATOR = "javax.websocket.server.ServerEndpointConfig.Configurator";
+    private static final String ENDPOINT = "javax.websocket.Endpoint";
+    private static final String SERVER_APPLICATION_CONFIG = "javax.websocket.server.ServerApplicationConfig";
+
+    private final Map<String, EndpointIndex.Entry> entries = new LinkedHashMap<String, EndpointIndex.Entry>();
+    private final Set<String> endpointClassNames = new LinkedHashSet<String>();
+    private final Set<String> applicationConfigClassNames = new LinkedHashSet<String>();
+    // binary names of all the classes compiled, whether listed or not
+    private final Set<String> compiled = new HashSet<String>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            examine(type);
+        }
+        return false;
+    }
+
+    private void examine(TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS) {
+            String className = binaryName(type.asType());
+            this.compiled.add(className);
+            EndpointIndex.Entry entry = toEntry(type);
+            if (entry != null) {
+                this.entries.put(className, entry);
+            }
+            if (isConcreteSubtype(type, ENDPOINT)) {
+                this.endpointClassNames.add(className);
+            }
+            if (isConcreteSubtype(type, SERVER_APPLICATION_CONFIG)) {
+                this.applicationConfigClassNames.add(className);
+            }
+        }
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+            examine(member);
+        }
+    }
+
+    private boolean isConcreteSubtype(TypeElement type, String superTypeName) {
+        Set<Modifier> modifiers = type.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)
+                || (type.getNestingKind().isNested() && !modifiers.contains(Modifier.STATIC))) {
+            return false;
+        }
+        TypeElement superType = processingEnv.getElementUtils().getTypeElement(superTypeName);
+        if (superType == null || type.equals(superType)) {
+            return false;
+        }
+        return processingEnv.getTypeUtils().isSubtype(
+                processingEnv.getTypeUtils().erasure(type.asType()),
+                processingEnv.getTypeUtils().erasure(superType.asType()));
+    }
+
+    private EndpointIndex.Entry toEntry(TypeElement type) {
+        AnnotationMirror serverEndpoint = findServerEndpoint(type);
+        if (serverEndpoint == null) {
+            return null;
+        }
+        String path = null;
+        List<String> subprotocols = new ArrayList<String>();
+        List<String> encoders = new ArrayList<String>();
+        List<String> decoders = new ArrayList<String>();
+        String configurator = null;
+
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(serverEndpoint);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : values.entrySet()) {
+            String name = value.getKey().getSimpleName().toString();
+            if ("value".equals(name)) {
+                path = (String) value.getValue().getValue();
+            } else if ("subprotocols".equals(name)) {
+                for (AnnotationValue subprotocol : list(value.getValue())) {
+                    subprotocols.add((String) subprotocol.getValue());
+                }
+            } else if ("encoders".equals(name)) {
+                for (AnnotationValue encoder : list(value.getValue())) {
+                    encoders.add(binaryName((TypeMirror) encoder.getValue()));
+                }
+            } else if ("decoders".equals(name)) {
+                for (AnnotationValue decoder : list(value.getValue())) {
+                    decoders.add(binaryName((TypeMirror) decoder.getValue()));
+                }
+            } else if ("configurator".equals(name)) {
+                TypeMirror configuratorType = (TypeMirror) value.getValue().getValue();
+                TypeElement configuratorElement = (TypeElement) ((DeclaredType) configuratorType).asElement();
+                if (!configuratorElement.getQualifiedName().contentEquals(DEFAULT_CONFIGURATOR)) {
+                    configurator = binaryName(configuratorType);
+                }
+            }
+        }
+
+        if (path == null || !path.startsWith("/")) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@ServerEndpoint path must begin with /", type, serverEndpoint);
+            return null;
+        }
+        return new EndpointIndex.Entry(binaryName(type.asType()), path, subprotocols, encoders, decoders, configurator);
+    }
+
+    private void writeIndex() {
+        EndpointIndex previous = readPreviousIndex();
+        if (previous == null && this.entries.isEmpty() && this.endpointClassNames.isEmpty()
+                && this.applicationConfigClassNames.isEmpty()) {
+            return;
+        }
+        Map<String, EndpointIndex.Entry> merged = new LinkedHashMap<String, EndpointIndex.Entry>();
+        Set<String> endpoints = new LinkedHashSet<String>();
+        Set<String> applicationConfigs = new LinkedHashSet<String>();
+        if (previous != null) {
+            for (EndpointIndex.Entry entry : previous.getEntries()) {
+                TypeElement type = uncompiledType(entry.getClassName());
+                if (type != null && findServerEndpoint(type) != null) {
+                    merged.put(entry.getClassName(), entry);
+                }
+            }
+            for (String className : previous.getEndpointClassNames()) {
+                TypeElement type = uncompiledType(className);
+                if (type != null && isConcreteSubtype(type, ENDPOINT)) {
+                    endpoints.add(className);
+                }
+            }
+            for (String className : previous.getApplicationConfigClassNames()) {
+                TypeElement type = uncompiledType(className);
+                if (type != null && isConcreteSubtype(type, SERVER_APPLICATION_CONFIG)) {
+                    applicationConfigs.add(className);
+                }
+            }
+        }
+        merged.putAll(this.entries);
+        endpoints.addAll(this.endpointClassNames);
+        applicationConfigs.addAll(this.applicationConfigClassNames);
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT, "", EndpointIndex.RESOURCE_NAME);
+            Writer writer = new OutputStreamWriter(resource.openOutputStream(), "UTF-8");
+            try {
+                new EndpointIndex(new ArrayList<EndpointIndex.Entry>(merged.values()),
+                        new ArrayList<String>(endpoints), new ArrayList<String>(applicationConfigs)).write(writer);
+            } finally {
+                writer.close();
+            }
+        } catch (IOException ioe) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + EndpointIndex.RESOURCE_NAME + ": " + ioe.getMessage());
+        }
+    }
+
+    // the type of a class listed in the previous index, or null if it was compiled again or no longer exists
+    private TypeElement uncompiledType(String className) {
+        if (this.compiled.contains(className)) {
+            return null;
+        }
+        return processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+    }
+
+    private EndpointIndex readPreviousIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(
+                    StandardLocation.CLASS_OUTPUT, "", EndpointIndex.RESOURCE_NAME);
+            InputStream in = resource.openInputStream();
+            try {
+                return EndpointIndex.read(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException ioe) {
+            // no previous index, or an unreadable one which is rebuilt from scratch.
+            return null;
+        }
+    }
+
+    private static AnnotationMirror findServerEndpoint(TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(SERVER_ENDPOINT)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> list(AnnotationValue value) {
+        return (List<? extends AnnotationValue>) value.getValue();
+    }
+
+    private String binaryName(TypeMirror type) {
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
+}
@@ -0,0 +1,567 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.websocket.EndpointInvoker;
+import javax.websocket.OnClose;
+import javax.websocket.OnError;
+import javax.websocket.OnMessage;
+import javax.websocket.OnOpen;
+import javax.websocket.server.PathParam;
+
+/**
+ * Annotation processor generating the {@link EndpointInvoker} of each
+ * annotated server and client endpoint class: a typed programmatic endpoint
+ * adapter calling its lifecycle and message handling methods directly rather
+ * than through reflection. The processor is registered as a service and runs
+ * whenever this JAR file is on the compiler's processor path.
+ *
+ * <p>Endpoint classes the generated adapter cannot cover entirely, such as
+ * classes with private or inherited annotated methods, or with parameters the
+ * processor does not recognize, get no invoker, and are reported as warnings.
+ * No invoker is generated for endpoint classes that are private or inner
+ * classes. For such classes, the processor writes a declined invoker instead,
+ * for which {@link EndpointInvoker#forClass(Class)} returns {@code null}, so
+ * that an invoker generated by an earlier compilation of the class is
+ * replaced rather than left in the output directory.
+ *
+ * @since 1.2
+ */
+@SupportedAnnotationTypes({
+        EndpointIndexProcessor.SERVER_ENDPOINT,
+        EndpointInvokerProcessor.CLIENT_ENDPOINT
+})
+public class EndpointInvokerProcessor extends AbstractProcessor {
+
+    static final String CLIENT_ENDPOINT = "javax.websocket.ClientEndpoint";
+
+    private static final String SESSION = "javax.websocket.Session";
+    private static final String ENDPOINT_CONFIG = "javax.websocket.EndpointConfig";
+    private static final String CLOSE_REASON = "javax.websocket.CloseReason";
+    private static final String THROWABLE = "java.lang.Throwable";
+    private static final String STRING = "java.lang.String";
+    private static final String BYTE_BUFFER = "java.nio.ByteBuffer";
+    private static final String BYTE_ARRAY = "byte[]";
+    private static final String READER = "java.io.Reader";
+    private static final String INPUT_STREAM = "java.io.InputStream";
+    private static final String PONG_MESSAGE = "javax.websocket.PongMessage";
+    private static final String PATH_PARAMETERS = "javax.websocket.server.PathParameters";
+
+    private enum Kind { OPEN, CLOSE, ERROR, MESSAGE }
+
+    private final Set<String> generated = new HashSet<String>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    TypeElement type = (TypeElement) element;
+                    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+                    if (!this.generated.add(binaryName)) {
+                        continue;
+                    }
+                    if (!isAccessible(type)) {
+                        generateDeclined(type, binaryName);
+                        continue;
+                    }
+                    try {
+                        generate(type, binaryName);
+                    } catch (UnsupportedEndpointException e) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                                e.getMessage() + ", no endpoint invoker generated", e.element);
+                        generateDeclined(type, binaryName);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type, String binaryName) throws UnsupportedEndpointException {
+        for (TypeMirror s = type.getSuperclass(); s.getKind() == TypeKind.DECLARED; ) {
+            TypeElement superType = (TypeElement) ((DeclaredType) s).asElement();
+            for (ExecutableElement method : ElementFilter.methodsIn(superType.getEnclosedElements())) {
+                if (kindOf(method) != null) {
+                    throw new UnsupportedEndpointException("Inherited websocket method", method);
+                }
+            }
+            s = superType.getSuperclass();
+        }
+
+        String endpointType = erasure(type.asType());
+        ExecutableElement onError = null;
+        List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Kind kind = kindOf(method);
+            if (kind == null) {
+                continue;
+            }
+            if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) {
+                throw new UnsupportedEndpointException("Private or static websocket method", method);
+            }
+            if (kind == Kind.ERROR) {
+                onError = method;
+            }
+            methods.add(method);
+        }
+
+        Map<String, String> slots = new LinkedHashMap<String, String>();
+        List<String> messageTypes = new ArrayList<String>();
+        StringBuilder registrations = new StringBuilder();
+        StringBuilder handlers = new StringBuilder();
+        Map<Kind, StringBuilder> lifecycle = new EnumMap<Kind, StringBuilder>(Kind.class);
+        for (ExecutableElement method : methods) {
+            Kind kind = kindOf(method);
+            if (kind == Kind.MESSAGE) {
+                int index = messageTypes.size();
+                String messageType = null;
+                boolean partial = false;
+                for (VariableElement parameter : method.getParameters()) {
+                    String parameterType = erasure(parameter.asType());
+                    if (parameter.getAnnotation(PathParam.class) != null || SESSION.equals(parameterType)) {
+                        continue;
+                    }
+                    if (messageType == null) {
+                        messageType = parameterType;
+                    } else if (!partial && "boolean".equals(parameterType) && isPartialType(messageType)) {
+                        partial = true;
+                    } else {
+                        throw new UnsupportedEndpointException("Unrecognized parameter", parameter);
+                    }
+                }
+                if (messageType == null) {
+                    throw new UnsupportedEndpointException("No message parameter", method);
+                }
+                String handlerType = boxed(messageType);
+                messageTypes.add(handlerType);
+                registrations.append("            session.addMessageHandler(").append(handlerType).append(".class, new javax.websocket.MessageHandler.")
+                        .append(partial ? "Partial<" : "Whole<").append(handlerType).append(">() {\n")
+                        .append("                @Override\n")
+                        .append("                public void onMessage(").append(handlerType).append(partial ? " message, boolean last) {\n" : " message) {\n")
+                        .append("                    Adapter.this.message").append(index).append(partial ? "(message, last);\n" : "(message);\n")
+                        .append("                }\n")
+                        .append("            });\n");
+                long maxMessageSize = method.getAnnotation(OnMessage.class).maxMessageSize();
+                if (maxMessageSize != -1) {
+                    String setter;
+                    if (isBinaryType(messageType)) {
+                        setter = "setMaxBinaryMessageBufferSize";
+                    } else if (isTextType(messageType)) {
+                        setter = "setMaxTextMessageBufferSize";
+                    } else {
+                        throw new UnsupportedEndpointException("maxMessageSize of a decoded message", method);
+                    }
+                    registrations.append("            session.").append(setter).append("((int) ").append(maxMessageSize).append("L);\n");
+                }
+                handlers.append("        private void message").append(index).append('(').append(handlerType)
+                        .append(partial ? " message, boolean last) {\n" : " message) {\n");
+                handlers.append("            final javax.websocket.Session session = this.session;\n");
+                appendCall(handlers, method, kind, slots, onError != null);
+                handlers.append("        }\n\n");
+            } else {
+                StringBuilder body = new StringBuilder();
+                appendCall(body, method, kind, slots, onError != null);
+                lifecycle.put(kind, body);
+            }
+        }
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String invokerName = binaryName + EndpointInvoker.CLASS_NAME_SUFFIX;
+        String simpleName = packageName.length() == 0 ? invokerName : invokerName.substring(packageName.length() + 1);
+
+        StringBuilder src = new StringBuilder();
+        if (packageName.length() > 0) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("/**\n * Generated by ").append(getClass().getName()).append(", do not edit.\n */\n");
+        src.append("public final class ").append(simpleName)
+                .append(" extends javax.websocket.EndpointInvoker<").append(endpointType).append("> {\n\n");
+        src.append("    public ").append(simpleName).append("() {\n");
+        src.append("        super(").append(endpointType).append(".class, new Class<?>[] {");
+        for (int i = 0; i < messageTypes.size(); i++) {
+            src.append(i == 0 ? " " : ", ").append(messageTypes.get(i)).append(".class");
+        }
+        src.append(messageTypes.isEmpty() ? "});\n" : " });\n");
+        src.append("    }\n\n");
+        src.append("    @Override\n");
+        src.append("    public javax.websocket.Endpoint newEndpoint(").append(endpointType).append(" endpoint) {\n");
+        src.append("        return new Adapter(endpoint);\n");
+        src.append("    }\n\n");
+        src.append("    private static final class Adapter extends javax.websocket.Endpoint {\n");
+        src.append("        private final ").append(endpointType).append(" endpoint;\n");
+        src.append("        private javax.websocket.Session session;\n");
+        if (!slots.isEmpty()) {
+            src.append("        private ").append(PATH_PARAMETERS).append(" params;\n");
+            for (String slot : slots.values()) {
+                src.append("        private int ").append(slot).append(" = -1;\n");
+            }
+        }
+        src.append("\n        Adapter(").append(endpointType).append(" endpoint) {\n");
+        src.append("            this.endpoint = endpoint;\n");
+        src.append("        }\n\n");
+
+        src.append("        @Override\n");
+        src.append("        public void onOpen(final javax.websocket.Session session, javax.websocket.EndpointConfig config) {\n");
+        src.append("            this.session = session;\n");
+        if (!slots.isEmpty()) {
+            src.append("            this.params = (").append(PATH_PARAMETERS).append(") session.getUserProperties().get(")
+                    .append(PATH_PARAMETERS).append(".USER_PROPERTY_KEY);\n");
+            src.append("            if (this.params != null) {\n");
+            for (Map.Entry<String, String> slot : slots.entrySet()) {
+                src.append("                this.").append(slot.getValue()).append(" = this.params.slotOf(\"")
+                        .append(escape(slot.getKey())).append("\");\n");
+            }
+            src.append("            }\n");
+        }
+        src.append(registrations);
+        if (lifecycle.containsKey(Kind.OPEN)) {
+            src.append(lifecycle.get(Kind.OPEN));
+        }
+        src.append("        }\n\n");
+
+        if (lifecycle.containsKey(Kind.CLOSE)) {
+            src.append("        @Override\n");
+            src.append("        public void onClose(javax.websocket.Session session, javax.websocket.CloseReason closeReason) {\n");
+            src.append(lifecycle.get(Kind.CLOSE));
+            src.append("        }\n\n");
+        }
+        if (lifecycle.containsKey(Kind.ERROR)) {
+            src.append("        @Override\n");
+            src.append("        public void onError(javax.websocket.Session session, Throwable thr) {\n");
+            src.append(lifecycle.get(Kind.ERROR));
+            src.append("        }\n\n");
+        }
+        src.append(handlers.length() > 0 ? handlers.substring(0, handlers.length() - 1) : "");
+        src.append("    }\n");
+        src.append("}\n");
+        write(type, invokerName, src);
+    }
+
+    // Overwrites any invoker left by an earlier compilation with one forClass maps to null.
+    private void generateDeclined(TypeElement type, String binaryName) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String invokerName = binaryName + EndpointInvoker.CLASS_NAME_SUFFIX;
+        String simpleName = packageName.length() == 0 ? invokerName : invokerName.substring(packageName.length() + 1);
+
+        StringBuilder src = new StringBuilder();
+        if (packageName.length() > 0) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("/**\n * Generated by ").append(getClass().getName()).append(", do not edit.\n */\n");
+        src.append("public final class ").append(simpleName)
+                .append(" extends javax.websocket.EndpointInvoker<Object> {\n\n");
+        src.append("    public ").append(simpleName).append("() {\n");
+        src.append("        super();\n");
+        src.append("    }\n\n");
+        src.append("    @Override\n");
+        src.append("    public javax.websocket.Endpoint newEndpoint(Object endpoint) {\n");
+        src.append("        throw new UnsupportedOperationException();\n");
+        src.append("    }\n");
+        src.append("}\n");
+        write(type, invokerName, src);
+    }
+
+    private void write(TypeElement type, String invokerName, StringBuilder src) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(invokerName, type);
+            Writer writer = file.openWriter();
+            try {
+                writer.write(src.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException ioe) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write endpoint invoker " + invokerName + ": " + ioe.getMessage(), type);
+        }
+    }
+
+    // Appends the statements calling the method, with the path parameter checks and the handling of its result.
+    private void appendCall(StringBuilder out, ExecutableElement method, Kind kind, Map<String, String> slots,
+                            boolean hasOnError) throws UnsupportedEndpointException {
+        StringBuilder checks = new StringBuilder();
+        StringBuilder args = new StringBuilder();
+        boolean messageSeen = false;
+        for (VariableElement parameter : method.getParameters()) {
+            String parameterType = erasure(parameter.asType());
+            PathParam pathParam = parameter.getAnnotation(PathParam.class);
+            String arg;
+            if (pathParam != null) {
+                String slot = slots.get(pathParam.value());
+                if (slot == null) {
+                    slot = "slot" + slots.size();
+                    slots.put(pathParam.value(), slot);
+                }
+                arg = pathParamExpression(parameter, parameterType, slot, kind, hasOnError, checks);
+            } else if (SESSION.equals(parameterType)) {
+                arg = "session";
+            } else if (kind == Kind.OPEN && ENDPOINT_CONFIG.equals(parameterType)) {
+                arg = "config";
+            } else if (kind == Kind.CLOSE && CLOSE_REASON.equals(parameterType)) {
+                arg = "closeReason";
+            } else if (kind == Kind.ERROR && THROWABLE.equals(parameterType)) {
+                arg = "thr";
+            } else if (kind == Kind.MESSAGE && !messageSeen) {
+                arg = "message";
+                messageSeen = true;
+            } else if (kind == Kind.MESSAGE && "boolean".equals(parameterType)) {
+                arg = "last";
+            } else {
+                throw new UnsupportedEndpointException("Unrecognized parameter", parameter);
+            }
+            if (args.length() > 0) {
+                args.append(", ");
+            }
+            args.append(arg);
+        }
+
+        out.append(checks);
+        out.append("            try {\n");
+        String call = "endpoint." + method.getSimpleName() + "(" + args + ")";
+        TypeMirror returnType = method.getReturnType();
+        if (kind != Kind.MESSAGE || returnType.getKind() == TypeKind.VOID) {
+            out.append("                this.").append(call).append(";\n");
+        } else {
+            String resultType = erasure(returnType);
+            out.append("                ").append(resultType).append(" result = this.").append(call).append(";\n");
+            String send;
+            if (STRING.equals(resultType)) {
+                send = "sendText(result)";
+            } else if (BYTE_BUFFER.equals(resultType)) {
+                send = "sendBinary(result)";
+            } else if (BYTE_ARRAY.equals(resultType)) {
+                send = "sendBinary(java.nio.ByteBuffer.wrap(result))";
+            } else {
+                send = "sendObject(result)";
+            }
+            if (returnType.getKind().isPrimitive()) {
+                out.append("                session.getBasicRemote().").append(send).append(";\n");
+            } else {
+                out.append("                if (result != null) {\n");
+                out.append("                    session.getBasicRemote().").append(send).append(";\n");
+                out.append("                }\n");
+            }
+        }
+        out.append("            } catch (RuntimeException e) {\n");
+        out.append("                throw e;\n");
+        out.append("            } catch (Exception e) {\n");
+        if (kind != Kind.ERROR && hasOnError) {
+            out.append("                onError(session, e);\n");
+        } else {
+            out.append("                throw new IllegalStateException(e);\n");
+        }
+        out.append("            }\n");
+    }
+
+    private String pathParamExpression(VariableElement parameter, String parameterType, String slot, Kind kind,
+                                       boolean hasOnError, StringBuilder checks) throws UnsupportedEndpointException {
+        if (STRING.equals(parameterType)) {
+            return "(this." + slot + " < 0 ? null : this.params.getString(this." + slot + "))";
+        }
+        String primitive = unboxed(parameterType);
+        if (primitive == null) {
+            throw new UnsupportedEndpointException("Unsupported path parameter type", parameter);
+        }
+        String getter = "this.params.get" + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1)
+                + "(this." + slot + ")";
+        String error = "this.params.getError(this." + slot + ", " + primitive + ".class)";
+        String missing = "this." + slot + " < 0";
+        if (kind == Kind.ERROR) {
+            // the error may be the failed conversion itself, which is reported rather than checked
+            missing = missing + " || " + error + " != null";
+        } else {
+            checks.append("            if (this.").append(slot).append(" >= 0 && ").append(error).append(" != null) {\n");
+            if (hasOnError) {
+                checks.append("                onError(session, ").append(error).append(");\n");
+                checks.append("                return;\n");
+            } else {
+                checks.append("                throw new IllegalStateException(").append(error).append(");\n");
+            }
+            checks.append("            }\n");
+        }
+        if (primitive.equals(parameterType)) {
+            return "(" + missing + " ? " + defaultValue(primitive) + " : " + getter + ")";
+        }
+        return "(" + missing + " ? null : " + parameterType + ".valueOf(" + getter + "))";
+    }
+
+    private static Kind kindOf(ExecutableElement method) {
+        if (method.getAnnotation(OnOpen.class) != null) {
+            return Kind.OPEN;
+        } else if (method.getAnnotation(OnClose.class) != null) {
+            return Kind.CLOSE;
+        } else if (method.getAnnotation(OnError.class) != null) {
+            return Kind.ERROR;
+        } else if (method.getAnnotation(OnMessage.class) != null) {
+            return Kind.MESSAGE;
+        }
+        return null;
+    }
+
+    // a literal of the primitive type, so that the generated code needs no cast
+    private static String defaultValue(String primitive) {
+        if ("boolean".equals(primitive)) {
+            return "false";
+        } else if ("char".equals(primitive)) {
+            return "'\\0'";
+        } else if ("long".equals(primitive)) {
+            return "0L";
+        } else if ("float".equals(primitive)) {
+            return "0.0f";
+        } else if ("double".equals(primitive)) {
+            return "0.0d";
+        } else if ("int".equals(primitive)) {
+            return "0";
+        }
+        // byte and short have no literal of their own
+        return "(" + primitive + ") 0";
+    }
+
+    private static boolean isPartialType(String type) {
+        return STRING.equals(type) || BYTE_BUFFER.equals(type) || BYTE_ARRAY.equals(type);
+    }
+
+    private static boolean isBinaryType(String type) {
+        return BYTE_BUFFER.equals(type) || BYTE_ARRAY.equals(type) || INPUT_STREAM.equals(type);
+    }
+
+    private static boolean isTextType(String type) {
+        return STRING.equals(type) || READER.equals(type) || unboxed(type) != null;
+    }
+
+    private static final String[][] BOXES = {
+        {"boolean", "java.lang.Boolean"}, {"byte", "java.lang.Byte"}, {"char", "java.lang.Character"},
+        {"short", "java.lang.Short"}, {"int", "java.lang.Integer"}, {"long", "java.lang.Long"},
+        {"float", "java.lang.Float"}, {"double", "java.lang.Double"}
+    };
+
+    private static String boxed(String type) {
+        for (String[] box : BOXES) {
+            if (box[0].equals(type)) {
+                return box[1];
+            }
+        }
+        return type;
+    }
+
+    // the primitive type of a primitive or boxed type, or null
+    private static String unboxed(String type) {
+        for (String[] box : BOXES) {
+            if (box[0].equals(type) || box[1].equals(type)) {
+                return box[0];
+            }
+        }
+        return null;
+    }
+
+    private String erasure(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind().isPrimitive()) {
+            return ((PrimitiveType) erased).getKind().name().toLowerCase(java.util.Locale.ENGLISH);
+        }
+        return erased.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            TypeElement t = (TypeElement) e;
+            if (t.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class UnsupportedEndpointException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        UnsupportedEndpointException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.websocket.Decoder;
+import javax.websocket.DispatchMode;
 import javax.websocket.Encoder;
 import javax.websocket.Endpoint;
 import javax.websocket.Extension;
@@ -65,6 +66,12 @@ import javax.websocket.Extension;
     private List<Class<? extends Decoder>> decoders;
     private Map<String, Object> userProperties = new HashMap<String, Object>();
     private ServerEndpointConfig.Configurator serverEndpointConfigurator;
+    private EndpointInstanceMode instanceMode = EndpointInstanceMode.PER_SESSION;
+    private int instancePoolSize;
+    private HandshakeAdmission handshakeAdmission = HandshakeAdmission.UNLIMITED;
+    private int maxSessions;
+    private SessionOverloadPolicy overloadPolicy = SessionOverloadPolicy.REFUSE;
+    private DispatchMode dispatchMode = DispatchMode.CONTAINER_DEFAULT;
 
     
     // The builder ensures nothing except configurator can be {@code null}.
@@ -74,7 +81,13 @@ import javax.websocket.Extension;
                                     List<Extension> extensions,
                                     List<Class<? extends Encoder>> encoders,
                                     List<Class<? extends Decoder>> decoders,
-                                    ServerEndpointConfig.Configurator serverEndpointConfigurator) {
+                                    ServerEndpointConfig.Configurator serverEndpointConfigurator,
+                                    EndpointInstanceMode instanceMode,
+                                    int instancePoolSize,
+                                    HandshakeAdmission handshakeAdmission,
+                                    int maxSessions,
+                                    SessionOverloadPolicy overloadPolicy,
+                                    DispatchMode dispatchMode) {
         this.path = path;
         this.endpointClass = endpointClass;
         this.subprotocols = Collections.unmodifiableList(subprotocols);
@@ -86,6 +99,12 @@ import javax.websocket.Extension;
         } else{  
             this.serverEndpointConfigurator = serverEndpointConfigurator;
         }
+        this.instanceMode = instanceMode;
+        this.instancePoolSize = instancePoolSize;
+        this.handshakeAdmission = handshakeAdmission;
+        this.maxSessions = maxSessions;
+        this.overloadPolicy = overloadPolicy;
+        this.dispatchMode = dispatchMode;
     }
 
     /**
@@ -153,6 +172,36 @@ import javax.websocket.Extension;
     public ServerEndpointConfig.Configurator getConfigurator() {
         return this.serverEndpointConfigurator;
     }
+
+    @Override
+    public EndpointInstanceMode getInstanceMode() {
+        return this.instanceMode;
+    }
+
+    @Override
+    public int getInstancePoolSize() {
+        return this.instancePoolSize;
+    }
+
+    @Override
+    public HandshakeAdmission getHandshakeAdmission() {
+        return this.handshakeAdmission;
+    }
+
+    @Override
+    public int getMaxSessions() {
+        return this.maxSessions;
+    }
+
+    @Override
+    public SessionOverloadPolicy getOverloadPolicy() {
+        return this.overloadPolicy;
+    }
+
+    @Override
+    public DispatchMode getDispatchMode() {
+        return this.dispatchMode;
+    }
     
      /**
      * Editable map of user properties.
@@ -0,0 +1,359 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * The EndpointIndex lists the classes of an archive a server implementation
+ * looks for when deploying it, as recorded at compile time by an annotation
+ * processor in the {@value #RESOURCE_NAME} resource of the archive: the
+ * annotated server endpoints, the concrete {@link javax.websocket.Endpoint}
+ * subclasses and the concrete {@link ServerApplicationConfig} implementations.
+ * Implementations that find an index may build the sets of classes passed to
+ * {@link ServerApplicationConfig#getAnnotatedEndpointClasses(java.util.Set)} and
+ * {@link ServerApplicationConfig#getEndpointConfigs(java.util.Set)}, and
+ * deploy the endpoints listed, without scanning the bytecode of every class
+ * in the archive.
+ *
+ * <p>An index only covers the classes compiled with the annotation processor
+ * on the processor path. Archives, or libraries within them, that carry no
+ * index must still be scanned.
+ *
+ * <p>The index is a UTF-8 text file holding one class per line. Lines of
+ * annotated endpoints have six fields separated by tab characters: the
+ * endpoint class name, its path, its subprotocols, its encoder class names,
+ * its decoder class names, and its configurator class name. List fields are
+ * separated by commas, and empty fields stand for empty lists or, for the
+ * configurator, for the default configurator. Lines of other classes have two
+ * fields: {@value #ENDPOINT} or {@value #APPLICATION_CONFIG}, followed by the
+ * class name. Lines starting with '#' are comments.
+ *
+ * <p>Class names are recorded as binary names, and classes are only loaded by
+ * the implementation when it deploys the endpoint.
+ *
+ * @since 1.2
+ */
+public final class EndpointIndex {
+
+    /**
+     * The name of the resource holding the index.
+     */
+    public static final String RESOURCE_NAME = "META-INF/javax.websocket.server.EndpointIndex";
+
+    /**
+     * The first field of the lines listing concrete {@link javax.websocket.Endpoint} subclasses.
+     */
+    public static final String ENDPOINT = "endpoint";
+
+    /**
+     * The first field of the lines listing concrete {@link ServerApplicationConfig} implementations.
+     */
+    public static final String APPLICATION_CONFIG = "application-config";
+
+    private static final String CHARSET = "UTF-8";
+
+    private final List<Entry> entries;
+    private final List<String> endpointClassNames;
+    private final List<String> applicationConfigClassNames;
+
+    /**
+     * Creates an index holding the given annotated endpoint entries only.
+     *
+     * @param entries the entries of the index.
+     */
+    public EndpointIndex(List<Entry> entries) {
+        this(entries, Collections.<String>emptyList(), Collections.<String>emptyList());
+    }
+
+    /**
+     * Creates an index holding the given classes.
+     *
+     * @param entries the annotated endpoint entries of the index.
+     * @param endpointClassNames the binary names of the concrete Endpoint subclasses.
+     * @param applicationConfigClassNames the binary names of the concrete
+     * ServerApplicationConfig implementations.
+     */
+    public EndpointIndex(List<Entry> entries, List<String> endpointClassNames,
+                         List<String> applicationConfigClassNames) {
+        this.entries = Collections.unmodifiableList(new ArrayList<Entry>(entries));
+        this.endpointClassNames = Collections.unmodifiableList(new ArrayList<String>(endpointClassNames));
+        this.applicationConfigClassNames =
+                Collections.unmodifiableList(new ArrayList<String>(applicationConfigClassNames));
+    }
+
+    /**
+     * Load the index from all the {@value #RESOURCE_NAME} resources visible to
+     * the given class loader.
+     *
+     * @param classLoader the class loader of the archive.
+     * @return the index, empty if there is no index resource.
+     * @throws IOException if an index resource cannot be read or is malformed.
+     */
+    public static EndpointIndex load(ClassLoader classLoader) throws IOException {
+        List<Entry> entries = new ArrayList<Entry>();
+        List<String> endpointClassNames = new ArrayList<String>();
+        List<String> applicationConfigClassNames = new ArrayList<String>();
+        Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            InputStream in = url.openStream();
+            try {
+                EndpointIndex index = read(in);
+                entries.addAll(index.getEntries());
+                endpointClassNames.addAll(index.getEndpointClassNames());
+                applicationConfigClassNames.addAll(index.getApplicationConfigClassNames());
+            } finally {
+                in.close();
+            }
+        }
+        return new EndpointIndex(entries, endpointClassNames, applicationConfigClassNames);
+    }
+
+    /**
+     * Read an index in the format of the {@value #RESOURCE_NAME} resource.
+     *
+     * @param in the stream to read from, which this method does not close.
+     * @return the index read.
+     * @throws IOException if the stream cannot be read or is malformed.
+     */
+    public static EndpointIndex read(InputStream in) throws IOException {
+        List<Entry> entries = new ArrayList<Entry>();
+        List<String> endpointClassNames = new ArrayList<String>();
+        List<String> applicationConfigClassNames = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, CHARSET));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.length() == 0 || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t", -1);
+            if (fields.length == 2 && ENDPOINT.equals(fields[0])) {
+                endpointClassNames.add(fields[1]);
+            } else if (fields.length == 2 && APPLICATION_CONFIG.equals(fields[0])) {
+                applicationConfigClassNames.add(fields[1]);
+            } else if (fields.length == 6) {
+                entries.add(new Entry(fields[0], fields[1], list(fields[2]), list(fields[3]), list(fields[4]),
+                        fields[5].length() == 0 ? null : fields[5]));
+            } else {
+                throw new IOException("Malformed endpoint index line: " + line);
+            }
+        }
+        return new EndpointIndex(entries, endpointClassNames, applicationConfigClassNames);
+    }
+
+    /**
+     * Write this index in the format of the {@value #RESOURCE_NAME} resource.
+     *
+     * @param writer the writer to write to, which this method does not close.
+     * @throws IOException if the index cannot be written.
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Generated by a javax.websocket annotation processor, do not edit\n");
+        for (Entry entry : this.entries) {
+            writer.write(entry.getClassName());
+            writer.write('\t');
+            writer.write(entry.getPath());
+            writer.write('\t');
+            writer.write(join(entry.getSubprotocols()));
+            writer.write('\t');
+            writer.write(join(entry.getEncoderClassNames()));
+            writer.write('\t');
+            writer.write(join(entry.getDecoderClassNames()));
+            writer.write('\t');
+            writer.write(entry.getConfiguratorClassName() == null ? "" : entry.getConfiguratorClassName());
+            writer.write('\n');
+        }
+        for (String className : this.endpointClassNames) {
+            writer.write(ENDPOINT + '\t' + className + '\n');
+        }
+        for (String className : this.applicationConfigClassNames) {
+            writer.write(APPLICATION_CONFIG + '\t' + className + '\n');
+        }
+    }
+
+    /**
+     * Return the annotated endpoint entries of this index.
+     *
+     * @return the unmodifiable list of entries, empty if none.
+     */
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Return the binary names of the concrete {@link javax.websocket.Endpoint}
+     * subclasses listed in this index.
+     *
+     * @return the unmodifiable list of class names, empty if none.
+     */
+    public List<String> getEndpointClassNames() {
+        return this.endpointClassNames;
+    }
+
+    /**
+     * Return the binary names of the concrete {@link ServerApplicationConfig}
+     * implementations listed in this index.
+     *
+     * @return the unmodifiable list of class names, empty if none.
+     */
+    public List<String> getApplicationConfigClassNames() {
+        return this.applicationConfigClassNames;
+    }
+
+    private static List<String> list(String field) {
+        if (field.length() == 0) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(field.split(",")));
+    }
+
+    private static String join(List<String> values) {
+        StringBuilder sb = new StringBuilder();
+        for (String value : values) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A single annotated server endpoint recorded in the index, holding the
+     * attributes of its {@link ServerEndpoint} annotation.
+     */
+    public static final class Entry {
+        private final String className;
+        private final String path;
+        private final List<String> subprotocols;
+        private final List<String> encoderClassNames;
+        private final List<String> decoderClassNames;
+        private final String configuratorClassName;
+
+        /**
+         * Creates an index entry.
+         *
+         * @param className the binary name of the endpoint class.
+         * @param path the path of the endpoint.
+         * @param subprotocols the subprotocols of the endpoint.
+         * @param encoderClassNames the binary names of the encoder classes.
+         * @param decoderClassNames the binary names of the decoder classes.
+         * @param configuratorClassName the binary name of the configurator class, or {@code null}
+         * if the endpoint uses the default configurator.
+         */
+        public Entry(String className, String path, List<String> subprotocols, List<String> encoderClassNames,
+                     List<String> decoderClassNames, String configuratorClassName) {
+            if (className == null || path == null) {
+                throw new IllegalArgumentException("className and path cannot be null");
+            }
+            this.className = className;
+            this.path = path;
+            this.subprotocols = Collections.unmodifiableList(new ArrayList<String>(subprotocols));
+            this.encoderClassNames = Collections.unmodifiableList(new ArrayList<String>(encoderClassNames));
+            this.decoderClassNames = Collections.unmodifiableList(new ArrayList<String>(decoderClassNames));
+            this.configuratorClassName = configuratorClassName;
+        }
+
+        /**
+         * Return the binary name of the endpoint class.
+         *
+         * @return the class name.
+         */
+        public String getClassName() {
+            return this.className;
+        }
+
+        /**
+         * Return the path of the endpoint.
+         *
+         * @return the URI or URI-template.
+         */
+        public String getPath() {
+            return this.path;
+        }
+
+        /**
+         * Return the subprotocols of the endpoint.
+         *
+         * @return the subprotocols, the empty list if none.
+         */
+        public List<String> getSubprotocols() {
+            return this.subprotocols;
+        }
+
+        /**
+         * Return the binary names of the encoder classes of the endpoint.
+         *
+         * @return the encoder class names, the empty list if none.
+         */
+        public List<String> getEncoderClassNames() {
+            return this.encoderClassNames;
+        }
+
+        /**
+         * Return the binary names of the decoder classes of the endpoint.
+         *
+         * @return the decoder class names, the empty list if none.
+         */
+        public List<String> getDecoderClassNames() {
+            return this.decoderClassNames;
+        }
+
+        /**
+         * Return the binary name of the configurator class of the endpoint.
+         *
+         * @return the configurator class name, or {@code null} for the default configurator.
+         */
+        public String getConfiguratorClassName() {
+            return this.configuratorClassName;
+        }
+    }
+}
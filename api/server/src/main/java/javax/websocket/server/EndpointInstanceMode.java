@@ -0,0 +1,78 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.server;
+
+/**
+ * The policy a server implementation follows to provide the endpoint instance
+ * of each new session, declared with {@link ServerEndpoint#instanceMode()} or
+ * {@link ServerEndpointConfig.Builder#instanceMode(EndpointInstanceMode)}. In
+ * every mode, the implementation obtains new instances by calling
+ * {@link ServerEndpointConfig.Configurator#getEndpointInstance(Class)}.
+ *
+ * @since 1.2
+ */
+public enum EndpointInstanceMode {
+
+    /**
+     * A new endpoint instance is obtained for each session, the default
+     * deployment cardinality.
+     */
+    PER_SESSION,
+
+    /**
+     * A single endpoint instance is obtained, when the first session opens, and
+     * handles all the sessions of the endpoint. The endpoint must be safe for use
+     * by concurrent threads, and must keep per session state in
+     * {@link javax.websocket.Session#getUserProperties()} rather than in its fields.
+     */
+    SINGLETON,
+
+    /**
+     * Endpoint instances are kept in a pool bounded by
+     * {@link ServerEndpointConfig#getInstancePoolSize()}. Each new session takes
+     * an idle instance from the pool, or obtains a new one if there is none, and
+     * the instance returns to the pool once the session has closed and its
+     * onClose method has completed. An instance is used by at most one session at a
+     * time, but successive sessions may find the state a previous session left
+     * in it. Instances that would exceed the bound of the pool are discarded
+     * instead of being returned to it.
+     */
+    POOLED
+}
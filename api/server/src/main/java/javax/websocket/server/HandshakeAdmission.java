@@ -0,0 +1,247 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.server;
+
+/**
+ * The HandshakeAdmission describes how many opening handshakes a server
+ * endpoint admits, in order to shed connection storms, for example when a
+ * large number of clients reconnect at once after a deployment. It is set on a
+ * {@link ServerEndpointConfig} using
+ * {@link ServerEndpointConfig.Builder#handshakeAdmission(HandshakeAdmission)}.
+ *
+ * <p>The implementation applies it as soon as it has matched the request URI
+ * to the endpoint, before computing the accept key, checking the origin,
+ * negotiating subprotocols and extensions, modifying the handshake or
+ * obtaining an endpoint instance. A handshake is admitted if both:
+ * <ul>
+ * <li>fewer than {@link #getMaxConcurrentHandshakes()} handshakes of the
+ * endpoint are in progress, counting those waiting for an asynchronous
+ * {@link ServerEndpointConfig.Configurator#modifyHandshake(ServerEndpointConfig, HandshakeRequest, javax.websocket.HandshakeResponse, HandshakeHandler) modifyHandshake},
+ * and</li>
+ * <li>a token is available in a token bucket holding up to {@link #getBurst()}
+ * tokens and refilled at {@link #getRate()} tokens per second.</li>
+ * </ul>
+ * Otherwise the implementation rejects it at once with the status code
+ * {@link #getRejectStatusCode()} and, if {@link #getRetryAfter()} is
+ * positive, a Retry-After header giving that number of seconds.
+ *
+ * <p>For example:
+ * <pre><code>
+ * ServerEndpointConfig config = ServerEndpointConfig.Builder.create(ProgrammaticEndpoint.class, "/foo")
+ *         .handshakeAdmission(HandshakeAdmission.Builder.create()
+ *                 .maxConcurrentHandshakes(500)
+ *                 .rate(2000, 4000)
+ *                 .retryAfter(5)
+ *                 .build())
+ *         .build();
+ * </code></pre>
+ *
+ * @since 1.2
+ */
+public final class HandshakeAdmission {
+
+    /**
+     * The admission admitting every handshake, used when none was set.
+     */
+    public static final HandshakeAdmission UNLIMITED = Builder.create().build();
+
+    private final int maxConcurrentHandshakes;
+    private final int rate;
+    private final int burst;
+    private final int retryAfter;
+    private final int rejectStatusCode;
+
+    private HandshakeAdmission(Builder builder) {
+        this.maxConcurrentHandshakes = builder.maxConcurrentHandshakes;
+        this.rate = builder.rate;
+        this.burst = builder.burst;
+        this.retryAfter = builder.retryAfter;
+        this.rejectStatusCode = builder.rejectStatusCode;
+    }
+
+    /**
+     * Return the maximum number of handshakes of the endpoint in progress at
+     * the same time.
+     *
+     * @return the maximum, or 0 if unlimited.
+     */
+    public int getMaxConcurrentHandshakes() {
+        return this.maxConcurrentHandshakes;
+    }
+
+    /**
+     * Return the number of handshakes admitted per second in the long run.
+     *
+     * @return the rate, or 0 if unlimited.
+     */
+    public int getRate() {
+        return this.rate;
+    }
+
+    /**
+     * Return the number of handshakes that may be admitted at once after a
+     * quiet period, the capacity of the token bucket.
+     *
+     * @return the burst, or 0 if the rate is unlimited.
+     */
+    public int getBurst() {
+        return this.burst;
+    }
+
+    /**
+     * Return the number of seconds rejected clients are asked to wait before
+     * trying again.
+     *
+     * @return the value of the Retry-After header, or 0 to send none.
+     */
+    public int getRetryAfter() {
+        return this.retryAfter;
+    }
+
+    /**
+     * Return the HTTP status code rejected handshakes are answered with.
+     *
+     * @return the status code, 503 unless set otherwise.
+     */
+    public int getRejectStatusCode() {
+        return this.rejectStatusCode;
+    }
+
+    /**
+     * The HandshakeAdmission.Builder is a class used for creating
+     * {@link HandshakeAdmission} objects.
+     */
+    public static final class Builder {
+        private int maxConcurrentHandshakes;
+        private int rate;
+        private int burst;
+        private int retryAfter;
+        private int rejectStatusCode = 503;
+
+        // use create()
+        private Builder() {
+        }
+
+        /**
+         * Creates a new builder admitting every handshake, rejecting with status
+         * code 503 and no Retry-After header.
+         *
+         * @return a new builder object.
+         */
+        public static HandshakeAdmission.Builder create() {
+            return new HandshakeAdmission.Builder();
+        }
+
+        /**
+         * Builds the admission using the attributes set on this builder.
+         *
+         * @return a new admission object.
+         */
+        public HandshakeAdmission build() {
+            return new HandshakeAdmission(this);
+        }
+
+        /**
+         * Sets the maximum number of handshakes in progress at the same time.
+         *
+         * @param maxConcurrentHandshakes the maximum, or 0 for no limit.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public HandshakeAdmission.Builder maxConcurrentHandshakes(int maxConcurrentHandshakes) {
+            if (maxConcurrentHandshakes < 0) {
+                throw new IllegalArgumentException("maxConcurrentHandshakes cannot be negative");
+            }
+            this.maxConcurrentHandshakes = maxConcurrentHandshakes;
+            return this;
+        }
+
+        /**
+         * Sets the token bucket the handshakes are admitted through.
+         *
+         * @param rate the number of handshakes admitted per second, or 0 for no limit.
+         * @param burst the capacity of the bucket, at least 1 if the rate is limited.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if a value is negative, or if the burst is 0
+         * while the rate is limited.
+         */
+        public HandshakeAdmission.Builder rate(int rate, int burst) {
+            if (rate < 0 || burst < 0) {
+                throw new IllegalArgumentException("rate and burst cannot be negative");
+            }
+            if (rate > 0 && burst == 0) {
+                throw new IllegalArgumentException("burst must be at least 1 when the rate is limited");
+            }
+            this.rate = rate;
+            this.burst = (rate == 0) ? 0 : burst;
+            return this;
+        }
+
+        /**
+         * Sets the number of seconds rejected clients are asked to wait.
+         *
+         * @param retryAfter the value of the Retry-After header, or 0 to send none.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the value is negative.
+         */
+        public HandshakeAdmission.Builder retryAfter(int retryAfter) {
+            if (retryAfter < 0) {
+                throw new IllegalArgumentException("retryAfter cannot be negative");
+            }
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP status code rejected handshakes are answered with.
+         *
+         * @param rejectStatusCode the status code, between 400 and 599.
+         * @return this builder instance.
+         * @throws IllegalArgumentException if the status code is not an error status code.
+         */
+        public HandshakeAdmission.Builder rejectStatusCode(int rejectStatusCode) {
+            if (rejectStatusCode < 400 || rejectStatusCode > 599) {
+                throw new IllegalArgumentException("Status code must be between 400 and 599: " + rejectStatusCode);
+            }
+            this.rejectStatusCode = rejectStatusCode;
+            return this;
+        }
+    }
+}
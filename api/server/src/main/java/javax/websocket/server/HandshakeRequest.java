@@ -72,10 +72,29 @@ public interface HandshakeRequest {
      * Return the read only Map of Http Headers that came with the handshake request. The header names
      * are case insensitive.
      *
+     * <p>Implementations are encouraged to build the map lazily, on the first
+     * call, as a view over the headers they have already read, so that
+     * handshakes whose configurator reads no header, or only reads them with
+     * {@link #getHeader(String)}, do not pay for it.
+     *
      * @return the list of headers.
      */
     Map<String, List<String>> getHeaders();
 
+    /**
+     * Return the first value of the given Http Header that came with the
+     * handshake request. The header name is case insensitive. Unlike
+     * {@link #getHeaders()}, this method allocates no map or list, so it is
+     * the preferred way to read single valued headers such as
+     * {@link #SEC_WEBSOCKET_PROTOCOL} or Origin.
+     *
+     * @param name the name of the header.
+     * @return the first value of the header, or {@code null} if the request has no such header.
+     * @throws IllegalArgumentException if the name is {@code null}.
+     * @since 1.2
+     */
+    String getHeader(String name);
+
     /**
      * Return the authenticated user or {@code null} if no user is authenticated 
      * for this handshake.
@@ -117,10 +136,24 @@ public interface HandshakeRequest {
     /**
      * Return the request parameters associated with the request.
      *
+     * <p>Implementations are encouraged to parse the query string only when
+     * this method, or {@link #getParameter(String)}, is first called.
+     *
      * @return the unmodifiable map of the request parameters.
      */
     Map<String, List<String>> getParameterMap();
 
+    /**
+     * Return the first value of the given request parameter associated with the
+     * request. The parameter name is case sensitive.
+     *
+     * @param name the name of the parameter.
+     * @return the first value of the parameter, or {@code null} if the request has no such parameter.
+     * @throws IllegalArgumentException if the name is {@code null}.
+     * @since 1.2
+     */
+    String getParameter(String name);
+
     /**
      * Return the query string associated with the request.
      *
@@ -0,0 +1,116 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.server;
+
+/**
+ * The result of asynchronously modifying an opening handshake. A HandshakeResult
+ * is either ok, in which case the implementation completes the upgrade, or is
+ * not ok, in which case the implementation rejects the upgrade with the HTTP
+ * status code it carries.
+ *
+ * @since 1.2
+ */
+public final class HandshakeResult {
+
+    private final int statusCode;
+    private final Throwable exception;
+
+    /**
+     * Construct a HandshakeResult signifying the upgrade may be completed.
+     */
+    public HandshakeResult() {
+        this.statusCode = 0;
+        this.exception = null;
+    }
+
+    /**
+     * Construct a HandshakeResult rejecting the upgrade with the given HTTP status
+     * code, for example 401 or 403.
+     *
+     * @param statusCode the HTTP status code of the response, between 400 and 599.
+     * @throws IllegalArgumentException if the status code is not an error status code.
+     */
+    public HandshakeResult(int statusCode) {
+        this(statusCode, null);
+    }
+
+    /**
+     * Construct a HandshakeResult rejecting the upgrade with the given HTTP status
+     * code, and carrying the exception which caused the rejection.
+     *
+     * @param statusCode the HTTP status code of the response, between 400 and 599.
+     * @param exception the exception causing the rejection, may be {@code null}.
+     * @throws IllegalArgumentException if the status code is not an error status code.
+     */
+    public HandshakeResult(int statusCode, Throwable exception) {
+        if (statusCode < 400 || statusCode > 599) {
+            throw new IllegalArgumentException("Status code must be between 400 and 599: " + statusCode);
+        }
+        this.statusCode = statusCode;
+        this.exception = exception;
+    }
+
+    /**
+     * Determines if this result is ok or not.
+     *
+     * @return whether the upgrade may be completed.
+     */
+    public boolean isOK() {
+        return this.statusCode == 0;
+    }
+
+    /**
+     * The HTTP status code the upgrade is rejected with.
+     *
+     * @return the status code, or 0 if the result is ok.
+     */
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    /**
+     * The exception which caused the rejection, if any.
+     *
+     * @return the exception, or {@code null} if there was none.
+     */
+    public Throwable getException() {
+        return this.exception;
+    }
+}
@@ -52,6 +52,13 @@ import java.lang.annotation.Target;
  * but the requested path parameter cannot be decoded, then the websocket's error
  * handler will be called.
  *
+ * <p>The implementation converts each path parameter once, when the opening
+ * handshake completes, to every type the annotated methods declare for it, and
+ * passes the converted value to every call of those methods, as described in
+ * {@link PathParameters}. A value that cannot be converted does not fail the
+ * opening handshake: the error handler is called, with the DecodeException,
+ * in place of each call to a method declaring the parameter with that type.
+ *
  * <p>For example:-
  * <pre><code>
  * &#64;ServerEndpoint("/bookings/{guest-id}")
@@ -0,0 +1,384 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.server;
+
+import javax.websocket.DecodeException;
+
+/**
+ * The PathParameters hold the values of the path parameters of a session,
+ * converted once, when the opening handshake completes, to the types the
+ * endpoint declared for them with {@link PathParam}. Values are indexed by the
+ * slot {@link ServerEndpointRouter} assigned to each variable of the endpoint
+ * path, and primitive values are stored unboxed, so that reading them for each
+ * incoming message needs neither a map lookup nor parsing.
+ *
+ * <p>The methods of an endpoint may declare the same path parameter with
+ * different types, for example as a String in its OnOpen method and as a long
+ * in its OnMessage method. The value of a slot is then converted to each of
+ * those types, and each method reads the conversion to the type it declared.
+ *
+ * <p>A value that cannot be converted to one of its types neither fails the
+ * opening handshake nor the other conversions. The implementation records the
+ * DecodeException, available from {@link #getError(int, Class)}, and when it
+ * is about to call a method declaring the path parameter with that type, it
+ * calls the error handler of the endpoint with that exception instead, exactly
+ * as if the value had been converted when the method was called. Methods
+ * declaring the path parameter with other types are called as usual.
+ *
+ * <p>The implementation uses these values for the {@link PathParam} annotated
+ * parameters of the methods of annotated endpoints, and makes them available
+ * to all endpoints in the user properties of the session, under the key
+ * {@value #USER_PROPERTY_KEY}:
+ * <pre><code>
+ * PathParameters params = (PathParameters) session.getUserProperties().get(PathParameters.USER_PROPERTY_KEY);
+ * long accountId = params.getLong(0);
+ * </code></pre>
+ *
+ * @since 1.2
+ */
+public final class PathParameters {
+
+    /**
+     * The key under which the PathParameters of a server session are stored in
+     * {@link javax.websocket.Session#getUserProperties()}.
+     */
+    public static final String USER_PROPERTY_KEY = "javax.websocket.server.PathParameters";
+
+    private static final Class<?>[] KINDS = {
+        boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+    };
+
+    private final String[] names;
+    private final String[] values;
+    private final int[] converted;
+    private final long[] bits;
+    private final DecodeException[] errors;
+
+    private PathParameters(String[] names, String[] values, int[] converted, long[] bits, DecodeException[] errors) {
+        this.names = names;
+        this.values = values;
+        this.converted = converted;
+        this.bits = bits;
+        this.errors = errors;
+    }
+
+    /**
+     * Convert the path parameters of a match to the given types. The types
+     * are indexed by slot, and list for each slot every type the methods of
+     * the endpoint declared for that path parameter: String, any Java
+     * primitive type or any boxed version thereof. A {@code null} or empty
+     * list leaves the value of its slot as a String only.
+     *
+     * @param match the match of the path of the opening handshake request.
+     * @param types the types of the path parameters, by slot.
+     * @return the converted path parameters.
+     * @throws IllegalArgumentException if the number of type lists is not the
+     * number of slots of the match, or if a type is not supported.
+     */
+    public static PathParameters convert(ServerEndpointRouter.Match match, Class<?>[][] types) {
+        int count = match.getParameterCount();
+        if (types.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " type lists, got " + types.length);
+        }
+        String[] names = new String[count];
+        String[] values = new String[count];
+        int[] converted = new int[count];
+        long[] bits = new long[count * KINDS.length];
+        DecodeException[] errors = null;
+        for (int i = 0; i < count; i++) {
+            names[i] = match.getParameterName(i);
+            values[i] = match.getParameterValue(i);
+            if (types[i] == null) {
+                continue;
+            }
+            for (Class<?> type : types[i]) {
+                int kind = kind(type);
+                if (kind < 0 || (converted[i] & (1 << kind)) != 0) {
+                    continue;
+                }
+                converted[i] |= 1 << kind;
+                try {
+                    bits[i * KINDS.length + kind] = parse(names[i], values[i], KINDS[kind]);
+                } catch (DecodeException e) {
+                    if (errors == null) {
+                        errors = new DecodeException[count * KINDS.length];
+                    }
+                    errors[i * KINDS.length + kind] = e;
+                }
+            }
+        }
+        return new PathParameters(names, values, converted, bits, errors);
+    }
+
+    /**
+     * Return the number of path parameters.
+     *
+     * @return the number of slots.
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Return the slot of the path parameter with the given name. Implementations
+     * resolve the slots of {@link PathParam} annotated parameters once, when the
+     * endpoint is deployed.
+     *
+     * @param name the name of the path parameter.
+     * @return the slot, or -1 if there is no path parameter with this name.
+     */
+    public int slotOf(String name) {
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return the name of the path parameter in the given slot.
+     *
+     * @param slot the slot.
+     * @return the name of the path parameter.
+     */
+    public String getName(int slot) {
+        return this.names[slot];
+    }
+
+    /**
+     * Return whether the path parameter in the given slot was converted,
+     * successfully or not, to the given type. Every path parameter is
+     * available as a String.
+     *
+     * @param slot the slot.
+     * @param type String, a primitive type or a boxed version thereof.
+     * @return whether a conversion to the type was made.
+     * @throws IllegalArgumentException if the type is not supported.
+     */
+    public boolean isConverted(int slot, Class<?> type) {
+        int kind = kind(type);
+        return kind < 0 || (this.converted[slot] & (1 << kind)) != 0;
+    }
+
+    /**
+     * Return the reason the path parameter in the given slot could not be
+     * converted to the given type.
+     *
+     * @param slot the slot.
+     * @param type String, a primitive type or a boxed version thereof.
+     * @return the exception, or {@code null} if the conversion succeeded or was not made.
+     * @throws IllegalArgumentException if the type is not supported.
+     */
+    public DecodeException getError(int slot, Class<?> type) {
+        int kind = kind(type);
+        return (kind < 0 || this.errors == null) ? null : this.errors[slot * KINDS.length + kind];
+    }
+
+    /**
+     * Return the unconverted value of the path parameter in the given slot.
+     *
+     * @param slot the slot.
+     * @return the value as it appeared in the path.
+     */
+    public String getString(int slot) {
+        return this.values[slot];
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to boolean.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public boolean getBoolean(int slot) {
+        return bits(slot, 0) != 0;
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to byte.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public byte getByte(int slot) {
+        return (byte) bits(slot, 1);
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to char.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public char getChar(int slot) {
+        return (char) bits(slot, 2);
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to short.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public short getShort(int slot) {
+        return (short) bits(slot, 3);
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to int.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public int getInt(int slot) {
+        return (int) bits(slot, 4);
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to long.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public long getLong(int slot) {
+        return bits(slot, 5);
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to float.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public float getFloat(int slot) {
+        return Float.intBitsToFloat((int) bits(slot, 6));
+    }
+
+    /**
+     * Return the value of the path parameter in the given slot converted to double.
+     *
+     * @param slot the slot.
+     * @return the value.
+     * @throws IllegalStateException if the path parameter was not converted to this type,
+     * or could not be.
+     */
+    public double getDouble(int slot) {
+        return Double.longBitsToDouble(bits(slot, 7));
+    }
+
+    private long bits(int slot, int kind) {
+        if ((this.converted[slot] & (1 << kind)) == 0) {
+            throw new IllegalStateException("Path parameter " + this.names[slot] + " was not converted to "
+                    + KINDS[kind].getName());
+        }
+        int index = slot * KINDS.length + kind;
+        if (this.errors != null && this.errors[index] != null) {
+            throw new IllegalStateException("Path parameter " + this.names[slot] + " could not be converted to "
+                    + KINDS[kind].getName(), this.errors[index]);
+        }
+        return this.bits[index];
+    }
+
+    // index in KINDS, or -1 for String
+    private static int kind(Class<?> type) {
+        if (type == null || type == String.class) {
+            return -1;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return 0;
+        } else if (type == byte.class || type == Byte.class) {
+            return 1;
+        } else if (type == char.class || type == Character.class) {
+            return 2;
+        } else if (type == short.class || type == Short.class) {
+            return 3;
+        } else if (type == int.class || type == Integer.class) {
+            return 4;
+        } else if (type == long.class || type == Long.class) {
+            return 5;
+        } else if (type == float.class || type == Float.class) {
+            return 6;
+        } else if (type == double.class || type == Double.class) {
+            return 7;
+        }
+        throw new IllegalArgumentException("Unsupported path parameter type " + type.getName());
+    }
+
+    private static long parse(String name, String value, Class<?> type) throws DecodeException {
+        try {
+            if (type == boolean.class) {
+                return Boolean.parseBoolean(value) ? 1 : 0;
+            } else if (type == byte.class) {
+                return Byte.parseByte(value);
+            } else if (type == char.class) {
+                if (value.length() != 1) {
+                    throw new DecodeException(value, "Path parameter " + name + " is not a single character");
+                }
+                return value.charAt(0);
+            } else if (type == short.class) {
+                return Short.parseShort(value);
+            } else if (type == int.class) {
+                return Integer.parseInt(value);
+            } else if (type == long.class) {
+                return Long.parseLong(value);
+            } else if (type == float.class) {
+                return Float.floatToRawIntBits(Float.parseFloat(value));
+            } else {
+                return Double.doubleToRawLongBits(Double.parseDouble(value));
+            }
+        } catch (NumberFormatException nfe) {
+            throw new DecodeException(value, "Path parameter " + name + " cannot be converted to " + type.getName(), nfe);
+        }
+    }
+}
@@ -48,6 +48,12 @@ import javax.websocket.Endpoint;
  * endpoints within the archive the implementation must deploy. There is a separate
  * method for programmatic endpoints and for annotated endpoints.
  *
+ * <p>If the archive contains an {@link EndpointIndex} produced at compile time,
+ * implementations may take the ServerApplicationConfig implementations, and
+ * the sets of classes passed to {@link #getAnnotatedEndpointClasses(java.util.Set)}
+ * and {@link #getEndpointConfigs(java.util.Set)}, from the index rather than
+ * by scanning the archive.
+ *
  * @author dannycoward
  */
 public interface ServerApplicationConfig {
@@ -39,7 +39,9 @@
  */
 package javax.websocket.server;
 
+import java.net.SocketAddress;
 import javax.websocket.*;
+
 /**
  * The ServerContainer is the specialized view of the WebSocketContainer available
  * in server-side deployments. There is one ServerContainer instance per
@@ -57,6 +59,22 @@ import javax.websocket.*;
  * by which to provide a ServerContainer instance to the developer at application
  * deployment time. 
  * </p>
+ * <p>The threads of the ServerContainer of a web application are configured
+ * with the ServletContext init parameters {@link #IO_THREADS_INIT_PARAMETER},
+ * {@link #IO_THREAD_AFFINITY_INIT_PARAMETER}, {@link #DISPATCH_MODE_INIT_PARAMETER}
+ * and {@link #HANDLER_EXECUTOR_INIT_PARAMETER}, for example in the web.xml
+ * file of the application:
+ * <pre><code>
+ * &lt;context-param&gt;
+ *     &lt;param-name&gt;javax.websocket.server.ioThreads&lt;/param-name&gt;
+ *     &lt;param-value&gt;16&lt;/param-value&gt;
+ * &lt;/context-param&gt;
+ * </code></pre>
+ * <p>The implementation reads them once, when it creates the ServerContainer
+ * at application startup, builds a {@link ContainerConfig} from them, and
+ * fails the deployment of the application if one of them is not valid.
+ * Parameters that are not set leave the choice to the container.
+ * </p>
  * <p>Once the 
  * application deployment phase is complete, and the websocket application has
  * begun accepting incoming connections, the registration methods may no
@@ -65,6 +83,41 @@ import javax.websocket.*;
  * @author dannycoward 
  */
 public interface ServerContainer extends WebSocketContainer {
+
+    /**
+     * The name of the ServletContext init parameter giving the number of I/O
+     * threads of the container, see {@link ContainerConfig#getIoThreads()}.
+     *
+     * @since 1.2
+     */
+    public static final String IO_THREADS_INIT_PARAMETER = "javax.websocket.server.ioThreads";
+
+    /**
+     * The name of the ServletContext init parameter giving the CPUs the I/O
+     * threads of the container should be bound to, as a comma separated list
+     * of CPU numbers, see {@link ContainerConfig#getIoThreadAffinity()}.
+     *
+     * @since 1.2
+     */
+    public static final String IO_THREAD_AFFINITY_INIT_PARAMETER = "javax.websocket.server.ioThreadAffinity";
+
+    /**
+     * The name of the ServletContext init parameter giving the name of the
+     * {@link DispatchMode} of the container, see {@link ContainerConfig#getDispatchMode()}.
+     *
+     * @since 1.2
+     */
+    public static final String DISPATCH_MODE_INIT_PARAMETER = "javax.websocket.server.dispatchMode";
+
+    /**
+     * The name of the ServletContext init parameter giving the JNDI name of
+     * the {@link java.util.concurrent.Executor} the callbacks of the container
+     * run on, such as a managed executor service, see
+     * {@link ContainerConfig#getHandlerExecutor()}.
+     *
+     * @since 1.2
+     */
+    public static final String HANDLER_EXECUTOR_INIT_PARAMETER = "javax.websocket.server.handlerExecutor";
     
     /**
      * Deploys the given annotated endpoint into this ServerContainer during the
@@ -85,5 +138,105 @@ public interface ServerContainer extends WebSocketContainer {
      * been deployed.
      */
     public void addEndpoint(ServerEndpointConfig serverConfig) throws DeploymentException;
-    
+
+    /**
+     * Makes this container accept connections on the given address, in
+     * addition to those it receives from the web container or server it runs
+     * in, during the initialization phase of deploying the application. The
+     * endpoints of the container are reachable through every address it
+     * accepts connections on.
+     *
+     * <p>In particular, passing a {@code java.net.UnixDomainSocketAddress}
+     * lets client endpoints on the same host connect with
+     * {@link javax.websocket.Transports#WS_UNIX} URIs, avoiding the TCP stack.
+     * The socket file is created by this method and deleted when the
+     * application is undeployed. Opening handshakes received over it carry no
+     * remote address.
+     *
+     * @param address the address to accept connections on.
+     * @throws DeploymentException if the container does not support the type
+     * of address, or cannot accept connections on it.
+     * @throws IllegalArgumentException if the address is {@code null}.
+     * @throws IllegalStateException if the containing websocket application has already
+     * been deployed.
+     * @since 1.2
+     */
+    public void addListenAddress(SocketAddress address) throws DeploymentException;
+
+    /**
+     * Return the number of sessions open in this container, across all its
+     * endpoints. The value is maintained as sessions open and close, so it is
+     * cheap enough to be polled, for example by a load balancer health check
+     * deciding when to drain this node.
+     *
+     * @return the number of open sessions.
+     * @since 1.2
+     */
+    public int getOpenSessionCount();
+
+    /**
+     * Return the number of sessions open on the endpoint deployed at the given
+     * path.
+     *
+     * @param path the path the endpoint was deployed at, as returned by
+     * {@link ServerEndpointConfig#getPath()}.
+     * @return the number of open sessions, 0 if no endpoint is deployed at the path.
+     * @throws IllegalArgumentException if the path is {@code null}.
+     * @since 1.2
+     */
+    public int getOpenSessionCount(String path);
+
+    /**
+     * Return the maximum number of sessions open in this container at the same
+     * time, across all its endpoints. When the limit is reached, each endpoint
+     * follows its {@link ServerEndpointConfig#getOverloadPolicy()}, and only
+     * sessions of endpoints following {@link SessionOverloadPolicy#CLOSE_OLDEST_IDLE}
+     * are closed to make room.
+     *
+     * @return the maximum, or 0 if unlimited.
+     * @since 1.2
+     */
+    public int getMaxSessions();
+
+    /**
+     * Sets the maximum number of sessions open in this container at the same
+     * time. Lowering the limit below the number of open sessions closes none of
+     * them, it only refuses new ones until enough have closed.
+     *
+     * @param maxSessions the maximum, or 0 for no limit.
+     * @throws IllegalArgumentException if the value is negative.
+     * @since 1.2
+     */
+    public void setMaxSessions(int maxSessions);
+
+    /**
+     * Return whether this container accepts opening handshakes made over
+     * HTTP/2, as described in
+     * <a href="https://tools.ietf.org/html/rfc8441">Bootstrapping WebSockets with HTTP/2</a>.
+     * If so, the container advertises the extended CONNECT method on its
+     * HTTP/2 connections, and each session it accepts that way is carried by
+     * one stream, so many sessions from the same client may share a single
+     * connection. The endpoints deployed in the container cannot tell such
+     * sessions from the others: the flow control of the stream applies
+     * backpressure to sends as the TCP connection otherwise would. The flow
+     * control window of the connection is shared by all its streams however,
+     * so sessions sharing a connection may hold up each other's sends.
+     *
+     * @return whether handshakes over HTTP/2 are accepted.
+     * @since 1.2
+     */
+    public boolean isHttp2Enabled();
+
+    /**
+     * Sets whether this container accepts opening handshakes made over
+     * HTTP/2. Containers running in a web container that does not support
+     * HTTP/2 ignore this setting. It may only be changed during the
+     * deployment phase of the application.
+     *
+     * @param http2Enabled whether handshakes over HTTP/2 are accepted.
+     * @throws IllegalStateException if the containing websocket application
+     * has already been deployed.
+     * @since 1.2
+     */
+    public void setHttp2Enabled(boolean http2Enabled);
 }
@@ -44,6 +44,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import javax.websocket.Decoder;
+import javax.websocket.DispatchMode;
 import javax.websocket.Encoder;
 
 /**
@@ -128,4 +129,51 @@ public @interface ServerEndpoint {
      * if none was set in the annotation.
      */
     public Class<? extends ServerEndpointConfig.Configurator> configurator() default ServerEndpointConfig.Configurator.class;
+
+    /**
+     * The policy the implementation follows to provide the endpoint instance of
+     * each new session. See {@link EndpointInstanceMode}.
+     *
+     * @return the instance mode, {@link EndpointInstanceMode#PER_SESSION} if none was
+     * set in the annotation.
+     * @since 1.2
+     */
+    public EndpointInstanceMode instanceMode() default EndpointInstanceMode.PER_SESSION;
+
+    /**
+     * The maximum number of idle endpoint instances kept when the instance
+     * mode is {@link EndpointInstanceMode#POOLED}. It is ignored in other modes.
+     *
+     * @return the pool size, or 0 to let the implementation choose.
+     * @since 1.2
+     */
+    public int instancePoolSize() default 0;
+
+    /**
+     * The maximum number of sessions of this endpoint open at the same time.
+     *
+     * @return the maximum, or 0 if unlimited.
+     * @since 1.2
+     */
+    public int maxSessions() default 0;
+
+    /**
+     * The policy the implementation follows when a handshake arrives while
+     * the limit on open sessions is reached. See {@link SessionOverloadPolicy}.
+     *
+     * @return the overload policy, {@link SessionOverloadPolicy#REFUSE} if none
+     * was set in the annotation.
+     * @since 1.2
+     */
+    public SessionOverloadPolicy overloadPolicy() default SessionOverloadPolicy.REFUSE;
+
+    /**
+     * The threads the container runs the callbacks of this endpoint on. See
+     * {@link DispatchMode}.
+     *
+     * @return the dispatch mode, {@link DispatchMode#CONTAINER_DEFAULT} if none
+     * was set in the annotation.
+     * @since 1.2
+     */
+    public DispatchMode dispatchMode() default DispatchMode.CONTAINER_DEFAULT;
 }
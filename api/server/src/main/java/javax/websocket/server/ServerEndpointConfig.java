@@ -44,6 +44,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
 import javax.websocket.Decoder;
+import javax.websocket.DispatchMode;
 import javax.websocket.Encoder;
 import javax.websocket.EndpointConfig;
 import javax.websocket.Extension;
@@ -103,6 +104,62 @@ public interface ServerEndpointConfig extends EndpointConfig {
      * @return the configurator in use.
      */
     ServerEndpointConfig.Configurator getConfigurator();
+
+    /**
+     * Return the policy the implementation follows to provide the endpoint
+     * instance of each new session.
+     *
+     * @return the instance mode, {@link EndpointInstanceMode#PER_SESSION} if none was set.
+     * @since 1.2
+     */
+    EndpointInstanceMode getInstanceMode();
+
+    /**
+     * Return the maximum number of idle endpoint instances kept when the
+     * instance mode is {@link EndpointInstanceMode#POOLED}.
+     *
+     * @return the pool size, or 0 to let the implementation choose.
+     * @since 1.2
+     */
+    int getInstancePoolSize();
+
+    /**
+     * Return how many opening handshakes this endpoint admits. Annotated
+     * endpoints that need a limit may be deployed with a configuration built
+     * by a {@link ServerEndpointConfig.Builder} for the annotated class.
+     *
+     * @return the handshake admission, {@link HandshakeAdmission#UNLIMITED} if none was set.
+     * @since 1.2
+     */
+    HandshakeAdmission getHandshakeAdmission();
+
+    /**
+     * Return the maximum number of sessions of this endpoint open at the same
+     * time. The limit is checked before the handshake is negotiated, so
+     * refusing a session costs no more than rejecting the upgrade request.
+     *
+     * @return the maximum, or 0 if unlimited.
+     * @since 1.2
+     */
+    int getMaxSessions();
+
+    /**
+     * Return the policy the implementation follows when a handshake arrives
+     * while this endpoint, or the container, has as many open sessions as it
+     * allows.
+     *
+     * @return the overload policy, {@link SessionOverloadPolicy#REFUSE} if none was set.
+     * @since 1.2
+     */
+    SessionOverloadPolicy getOverloadPolicy();
+
+    /**
+     * Return the dispatch mode of this endpoint, see {@link DispatchMode}.
+     *
+     * @return the dispatch mode, {@link DispatchMode#CONTAINER_DEFAULT} if none was set.
+     * @since 1.2
+     */
+    DispatchMode getDispatchMode();
     
    /** 
     * The ServerEndpointConfig.Configurator class may be extended by developers who want to
@@ -171,6 +228,44 @@ public interface ServerEndpointConfig extends EndpointConfig {
             return this.getContainerDefaultConfigurator().getNegotiatedExtensions(installed, requested);
         }
 
+        /**
+         * Return whether the results of {@link #getNegotiatedSubprotocol(List, List)}
+         * and {@link #getNegotiatedExtensions(List, List)} depend only on their
+         * arguments, so that the container may reuse them. A container
+         * supporting this keeps, for each logical endpoint, a bounded cache of
+         * the negotiated results keyed by the raw values of the
+         * Sec-WebSocket-Protocol and Sec-WebSocket-Extensions headers, and skips
+         * parsing the headers and calling the negotiation methods when a client
+         * sends values that are already in it. Clients of a single application
+         * usually all send the same values.
+         *
+         * <p>Custom configurations whose negotiation consults anything beyond
+         * its arguments, such as the time of day or the load of the server,
+         * must not declare it cacheable.
+         *
+         * <p>The platform default implementation of this method returns
+         * {@code false} if this configurator overrides either negotiation
+         * method, since nothing is known about the custom algorithm, and
+         * otherwise returns whether the platform default negotiation is cacheable.
+         * Subclasses overriding the negotiation methods with pure algorithms may
+         * override this method to return {@code true}.
+         *
+         * @return whether the negotiation results may be cached.
+         * @since 1.2
+         */
+        public boolean isNegotiationCacheable() {
+            try {
+                Class<?> type = this.getClass();
+                if (type.getMethod("getNegotiatedSubprotocol", List.class, List.class).getDeclaringClass() != Configurator.class
+                        || type.getMethod("getNegotiatedExtensions", List.class, List.class).getDeclaringClass() != Configurator.class) {
+                    return false;
+                }
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+            return this.getContainerDefaultConfigurator().isNegotiationCacheable();
+        }
+
 
 
 
@@ -193,7 +288,9 @@ public interface ServerEndpointConfig extends EndpointConfig {
         }
 
         /**
-         * Called by the container after it has formulated a handshake response resulting from
+         * Called by the platform default implementation of
+         * {@link #modifyHandshake(ServerEndpointConfig, HandshakeRequest, HandshakeResponse, HandshakeHandler)},
+         * which the container calls after it has formulated a handshake response resulting from
          * a well-formed handshake request. The container has already 
          * checked that this configuration has a matching URI, determined the 
          * validity of the origin using the checkOrigin method, and filled
@@ -212,6 +309,50 @@ public interface ServerEndpointConfig extends EndpointConfig {
         public void modifyHandshake(ServerEndpointConfig sec, HandshakeRequest request, HandshakeResponse response) {
             // nothing.
         }
+
+        /**
+         * Called by the container after it has formulated a handshake response
+         * resulting from a well-formed handshake request, on every opening
+         * handshake. Containers always call this method, and never call
+         * {@link #modifyHandshake(ServerEndpointConfig, HandshakeRequest, HandshakeResponse)}
+         * directly, so that checks made by configurations overriding either
+         * method are never skipped. Custom configurations may override this
+         * method when inspecting the handshake involves a remote call, such as
+         * validating a token with an authentication service, so that no
+         * container thread waits for it. The configuration starts the call and
+         * returns, and the container completes or rejects the upgrade when the
+         * handler is notified.
+         *
+         * <p>The handshake response may be modified until the handler is
+         * notified, but neither the request nor the response may be used
+         * afterwards. The container does not complete the upgrade before the
+         * handler is notified; configurations needing a deadline for the
+         * remote call enforce it themselves and notify the handler with a
+         * rejecting result when it expires.
+         *
+         * <p>The platform default implementation of this method calls
+         * {@link #modifyHandshake(ServerEndpointConfig, HandshakeRequest, HandshakeResponse)}
+         * and then notifies the handler that the upgrade may be completed. If
+         * that call throws an exception, it notifies the handler with a result
+         * rejecting the upgrade with status code 500 and carrying the exception
+         * instead.
+         *
+         * @param sec the configuration object involved in the handshake
+         * @param request  the opening handshake request.
+         * @param response the proposed opening handshake response
+         * @param handler the handler to notify once the handshake has been inspected.
+         * @since 1.2
+         */
+        public void modifyHandshake(ServerEndpointConfig sec, HandshakeRequest request, HandshakeResponse response,
+                                    HandshakeHandler handler) {
+            try {
+                this.modifyHandshake(sec, request, response);
+            } catch (RuntimeException e) {
+                handler.onResult(new HandshakeResult(500, e));
+                return;
+            }
+            handler.onResult(new HandshakeResult());
+        }
         
         
         /**
@@ -227,6 +368,9 @@ public interface ServerEndpointConfig extends EndpointConfig {
          * The platform default implementation of this method returns a new
          * endpoint instance per call, thereby ensuring that there is one
          * endpoint instance per client, the default deployment cardinality.
+         * If the configuration uses an {@link EndpointInstanceMode} other than
+         * {@link EndpointInstanceMode#PER_SESSION}, the container calls this
+         * method only when the mode requires a new instance.
          *
          * @param endpointClass the class of the endpoint
          * @param <T> the type of the endpoint
@@ -272,6 +416,12 @@ public interface ServerEndpointConfig extends EndpointConfig {
         private List<Class<? extends Encoder>> encoders = Collections.emptyList();
         private List<Class<? extends Decoder>> decoders = Collections.emptyList();
         private ServerEndpointConfig.Configurator serverEndpointConfigurator;
+        private EndpointInstanceMode instanceMode = EndpointInstanceMode.PER_SESSION;
+        private int instancePoolSize;
+        private HandshakeAdmission handshakeAdmission = HandshakeAdmission.UNLIMITED;
+        private int maxSessions;
+        private SessionOverloadPolicy overloadPolicy = SessionOverloadPolicy.REFUSE;
+        private DispatchMode dispatchMode = DispatchMode.CONTAINER_DEFAULT;
 
         /**
          * Creates the builder with the mandatory information of the endpoint class 
@@ -305,7 +455,13 @@ public interface ServerEndpointConfig extends EndpointConfig {
                     Collections.unmodifiableList(this.extensions),
                     Collections.unmodifiableList(this.encoders),
                     Collections.unmodifiableList(this.decoders),
-                    this.serverEndpointConfigurator
+                    this.serverEndpointConfigurator,
+                    this.instanceMode,
+                    this.instancePoolSize,
+                    this.handshakeAdmission,
+                    this.maxSessions,
+                    this.overloadPolicy,
+                    this.dispatchMode
                  );
         }
 
@@ -377,6 +533,90 @@ public interface ServerEndpointConfig extends EndpointConfig {
             return this;
         }
 
+        /**
+         * Sets the policy the implementation follows to provide the endpoint
+         * instance of each new session.
+         *
+         * @param instanceMode the instance mode, {@code null} for {@link EndpointInstanceMode#PER_SESSION}.
+         * @return this builder instance
+         * @since 1.2
+         */
+        public ServerEndpointConfig.Builder instanceMode(EndpointInstanceMode instanceMode) {
+            this.instanceMode = (instanceMode == null) ? EndpointInstanceMode.PER_SESSION : instanceMode;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle endpoint instances kept when the
+         * instance mode is {@link EndpointInstanceMode#POOLED}.
+         *
+         * @param instancePoolSize the pool size, or 0 to let the implementation choose.
+         * @return this builder instance
+         * @throws IllegalArgumentException if the pool size is negative.
+         * @since 1.2
+         */
+        public ServerEndpointConfig.Builder instancePoolSize(int instancePoolSize) {
+            if (instancePoolSize < 0) {
+                throw new IllegalArgumentException("instancePoolSize cannot be negative");
+            }
+            this.instancePoolSize = instancePoolSize;
+            return this;
+        }
+
+        /**
+         * Sets how many opening handshakes the endpoint admits.
+         *
+         * @param handshakeAdmission the handshake admission, {@code null} for
+         * {@link HandshakeAdmission#UNLIMITED}.
+         * @return this builder instance
+         * @since 1.2
+         */
+        public ServerEndpointConfig.Builder handshakeAdmission(HandshakeAdmission handshakeAdmission) {
+            this.handshakeAdmission = (handshakeAdmission == null) ? HandshakeAdmission.UNLIMITED : handshakeAdmission;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of sessions of the endpoint open at the same time.
+         *
+         * @param maxSessions the maximum, or 0 for no limit.
+         * @return this builder instance
+         * @throws IllegalArgumentException if the value is negative.
+         * @since 1.2
+         */
+        public ServerEndpointConfig.Builder maxSessions(int maxSessions) {
+            if (maxSessions < 0) {
+                throw new IllegalArgumentException("maxSessions cannot be negative");
+            }
+            this.maxSessions = maxSessions;
+            return this;
+        }
+
+        /**
+         * Sets the policy the implementation follows when the limit on open
+         * sessions is reached.
+         *
+         * @param overloadPolicy the overload policy, {@code null} for {@link SessionOverloadPolicy#REFUSE}.
+         * @return this builder instance
+         * @since 1.2
+         */
+        public ServerEndpointConfig.Builder overloadPolicy(SessionOverloadPolicy overloadPolicy) {
+            this.overloadPolicy = (overloadPolicy == null) ? SessionOverloadPolicy.REFUSE : overloadPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the threads the container runs the callbacks of the endpoint on.
+         *
+         * @param dispatchMode the dispatch mode, {@code null} for {@link DispatchMode#CONTAINER_DEFAULT}.
+         * @return this builder instance
+         * @since 1.2
+         */
+        public ServerEndpointConfig.Builder dispatchMode(DispatchMode dispatchMode) {
+            this.dispatchMode = (dispatchMode == null) ? DispatchMode.CONTAINER_DEFAULT : dispatchMode;
+            return this;
+        }
+
 
 
     }
@@ -0,0 +1,318 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.websocket.DeploymentException;
+
+/**
+ * The ServerEndpointRouter maps the path of an incoming opening handshake
+ * request to the server endpoint configuration that best matches it, following
+ * the URI mapping policy of the specification. Implementations may use it in
+ * order to route handshakes in a time proportional to the number of segments of
+ * the incoming path, whatever the number of endpoints deployed.
+ *
+ * <p>The endpoint paths are precompiled into a tree of path segments, one tree
+ * per number of segments, since paths with a different number of segments never
+ * match. At each segment, a child matching the incoming segment exactly is
+ * preferred over a child representing a variable, and the traversal never
+ * returns to a previous segment, so that the result is the best match defined
+ * by the specification. For example, with endpoints mapped to
+ * <code>/a/{var}/c</code>, <code>/a/b/c</code> and <code>/a/{var1}/{var2}</code>:
+ * <pre><code>
+ * /a/b/c  matches /a/b/c
+ * /a/d/c  matches /a/{var}/c, with var=d
+ * /a/x/y  matches /a/{var1}/{var2}, with var1=x and var2=y
+ * </code></pre>
+ *
+ * <p>Each variable segment of a path is assigned a slot, numbered from 0 in the
+ * order the variables appear in the path. A {@link Match} holds the values of
+ * the variables of the incoming path in these slots, from which
+ * {@link javax.websocket.Session#getPathParameters()} may be populated.
+ *
+ * <p>All the endpoints are added while the application is being deployed. Once
+ * the first match has been made no endpoint may be added, and the router
+ * may then be used by concurrent threads.
+ *
+ * @since 1.2
+ */
+public final class ServerEndpointRouter {
+    private final List<Node> roots = new ArrayList<Node>();
+
+    /**
+     * Add the given server endpoint configuration to this router.
+     *
+     * @param config the configuration of the endpoint.
+     * @throws DeploymentException if the path of the configuration is not a valid
+     * URI-template level 1 or is equivalent to the path of an endpoint already added.
+     */
+    public void add(ServerEndpointConfig config) throws DeploymentException {
+        if (config == null) {
+            throw new IllegalArgumentException("config cannot be null");
+        }
+        String path = config.getPath();
+        List<String> segments = split(path);
+        while (this.roots.size() < segments.size()) {
+            this.roots.add(null);
+        }
+        Node node = this.roots.get(segments.size() - 1);
+        if (node == null) {
+            node = new Node();
+            this.roots.set(segments.size() - 1, node);
+        }
+
+        List<String> names = new ArrayList<String>();
+        for (String segment : segments) {
+            String name = variableName(path, segment);
+            if (name == null) {
+                if (node.exact == null) {
+                    node.exact = new HashMap<String, Node>();
+                }
+                Node child = node.exact.get(segment);
+                if (child == null) {
+                    child = new Node();
+                    node.exact.put(segment, child);
+                }
+                node = child;
+            } else {
+                if (names.contains(name)) {
+                    throw new DeploymentException("Duplicate variable " + name + " in path " + path);
+                }
+                names.add(name);
+                if (node.variable == null) {
+                    node.variable = new Node();
+                }
+                node = node.variable;
+            }
+        }
+
+        if (node.config != null) {
+            throw new DeploymentException("Path " + path + " is equivalent to the path "
+                    + node.config.getPath() + " of endpoint " + node.config.getEndpointClass().getName());
+        }
+        node.config = config;
+        node.names = names.toArray(new String[names.size()]);
+    }
+
+    /**
+     * Return the best match for the given path of an opening handshake request.
+     *
+     * @param path the path of the request URI, without its query string.
+     * @return the match, or {@code null} if no endpoint matches the path.
+     * @throws IllegalArgumentException if the path is {@code null}.
+     */
+    public Match match(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        if (!path.startsWith("/")) {
+            return null;
+        }
+        int count = 0;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '/') {
+                count++;
+            }
+        }
+        Node node = (count <= this.roots.size()) ? this.roots.get(count - 1) : null;
+        if (node == null) {
+            return null;
+        }
+
+        String[] values = null;
+        int slot = 0;
+        int start = 1;
+        while (true) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+            Node child = (node.exact == null) ? null : node.exact.get(segment);
+            if (child == null) {
+                if (node.variable == null || segment.length() == 0) {
+                    return null;
+                }
+                if (values == null) {
+                    values = new String[count];
+                }
+                values[slot++] = segment;
+                child = node.variable;
+            }
+            node = child;
+            if (end == path.length()) {
+                break;
+            }
+            start = end + 1;
+        }
+
+        if (node.config == null) {
+            return null;
+        }
+        return new Match(node.config, node.names, values);
+    }
+
+    private static List<String> split(String path) throws DeploymentException {
+        if (path == null || !path.startsWith("/")) {
+            throw new DeploymentException("Path cannot be null and must begin with /: " + path);
+        }
+        List<String> segments = new ArrayList<String>();
+        int start = 1;
+        while (true) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                segments.add(path.substring(start));
+                return segments;
+            }
+            segments.add(path.substring(start, end));
+            start = end + 1;
+        }
+    }
+
+    private static String variableName(String path, String segment) throws DeploymentException {
+        int open = segment.indexOf('{');
+        int close = segment.indexOf('}');
+        if (open == -1 && close == -1) {
+            return null;
+        }
+        if (open != 0 || close != segment.length() - 1 || segment.length() < 3
+                || segment.indexOf('{', 1) != -1 || segment.indexOf('}') != close) {
+            throw new DeploymentException("Segment " + segment + " of path " + path
+                    + " must either contain no variable or be a single variable");
+        }
+        return segment.substring(1, close);
+    }
+
+    private static final class Node {
+        private Map<String, Node> exact;
+        private Node variable;
+        private ServerEndpointConfig config;
+        private String[] names;
+    }
+
+    /**
+     * The result of matching the path of an opening handshake request. A
+     * Match holds the configuration of the matching endpoint, and the values
+     * of the variables of its path by slot.
+     */
+    public static final class Match {
+        private static final String[] NONE = new String[0];
+
+        private final ServerEndpointConfig config;
+        private final String[] names;
+        private final String[] values;
+        private Map<String, String> pathParameters;
+
+        Match(ServerEndpointConfig config, String[] names, String[] values) {
+            this.config = config;
+            this.names = names;
+            this.values = (values == null) ? NONE : values;
+        }
+
+        /**
+         * Return the configuration of the endpoint that matched.
+         *
+         * @return the configuration.
+         */
+        public ServerEndpointConfig getConfig() {
+            return this.config;
+        }
+
+        /**
+         * Return the number of variables in the path of the endpoint that matched.
+         *
+         * @return the number of slots.
+         */
+        public int getParameterCount() {
+            return this.names.length;
+        }
+
+        /**
+         * Return the name of the variable in the given slot.
+         *
+         * @param slot the slot, from 0 to {@link #getParameterCount()} excluded.
+         * @return the name of the variable.
+         * @throws IndexOutOfBoundsException if the slot does not exist.
+         */
+        public String getParameterName(int slot) {
+            return this.names[slot];
+        }
+
+        /**
+         * Return the value of the variable in the given slot.
+         *
+         * @param slot the slot, from 0 to {@link #getParameterCount()} excluded.
+         * @return the value of the variable in the incoming path.
+         * @throws IndexOutOfBoundsException if the slot does not exist.
+         */
+        public String getParameterValue(int slot) {
+            if (slot >= this.names.length) {
+                throw new IndexOutOfBoundsException("No path parameter in slot " + slot);
+            }
+            return this.values[slot];
+        }
+
+        /**
+         * Return the map of the path parameter names and values, suitable for
+         * {@link javax.websocket.Session#getPathParameters()}.
+         *
+         * @return the unmodifiable map of path parameters, in slot order.
+         */
+        public Map<String, String> getPathParameters() {
+            if (this.pathParameters == null) {
+                if (this.names.length == 0) {
+                    this.pathParameters = Collections.emptyMap();
+                } else {
+                    Map<String, String> map = new LinkedHashMap<String, String>();
+                    for (int i = 0; i < this.names.length; i++) {
+                        map.put(this.names[i], this.values[i]);
+                    }
+                    this.pathParameters = Collections.unmodifiableMap(map);
+                }
+            }
+            return this.pathParameters;
+        }
+    }
+}
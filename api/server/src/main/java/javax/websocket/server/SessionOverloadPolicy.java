@@ -0,0 +1,71 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * http://glassfish.java.net/public/CDDL+GPL_1_1.html
+ * or packager/legal/LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at packager/legal/LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package javax.websocket.server;
+
+/**
+ * The policy a server implementation follows when an opening handshake arrives
+ * while the endpoint already has {@link ServerEndpointConfig#getMaxSessions()}
+ * open sessions, or the container already has
+ * {@link ServerContainer#getMaxSessions()} open sessions.
+ *
+ * @since 1.2
+ */
+public enum SessionOverloadPolicy {
+
+    /**
+     * The handshake is refused with the status code 503, before an endpoint
+     * instance is obtained and before any negotiation takes place. Open
+     * sessions are left alone.
+     */
+    REFUSE,
+
+    /**
+     * The session that has been idle the longest is closed with
+     * {@link javax.websocket.CloseReason.CloseCodes#TRY_AGAIN_LATER} to make
+     * room for the new one, however long it has been idle. When the endpoint
+     * limit is reached, the session is chosen among those of the endpoint.
+     * When the container limit is reached, it is chosen among the sessions of
+     * all the endpoints whose policy is CLOSE_OLDEST_IDLE, so sessions of
+     * endpoints with another policy are never closed to make room; if none of
+     * these endpoints has an open session, the handshake is refused as with
+     * {@link #REFUSE}.
+     */
+    CLOSE_OLDEST_IDLE
+}